@@ -64,49 +64,50 @@ public class ActionContext implements Serializable {
     /**
      * Constant for the name of the action being executed.
      */
-    private static final String ACTION_NAME = "org.apache.struts2.ActionContext.name";
+    static final String ACTION_NAME = "org.apache.struts2.ActionContext.name";
 
     /**
      * Constant for the {@link org.apache.struts2.util.ValueStack OGNL value stack}.
      */
-    private static final String VALUE_STACK = ValueStack.VALUE_STACK;
+    static final String VALUE_STACK = ValueStack.VALUE_STACK;
 
     /**
      * Constant for the action's session.
      */
-    private static final String SESSION = "org.apache.struts2.ActionContext.session";
+    static final String SESSION = "org.apache.struts2.ActionContext.session";
 
     /**
      * Constant for the action's application context.
      */
-    private static final String APPLICATION = "org.apache.struts2.ActionContext.application";
+    static final String APPLICATION = "org.apache.struts2.ActionContext.application";
 
     /**
      * Constant for the action's parameters.
      */
-    private static final String PARAMETERS = "org.apache.struts2.ActionContext.parameters";
+    static final String PARAMETERS = "org.apache.struts2.ActionContext.parameters";
 
     /**
      * Constant for the action's locale.
      */
-    private static final String LOCALE = "org.apache.struts2.ActionContext.locale";
+    static final String LOCALE = "org.apache.struts2.ActionContext.locale";
 
     /**
      * Constant for the action's {@link ActionInvocation invocation} context.
      */
-    private static final String ACTION_INVOCATION = "org.apache.struts2.ActionContext.actionInvocation";
+    static final String ACTION_INVOCATION = "org.apache.struts2.ActionContext.actionInvocation";
 
     /**
      * Constant for the map of type conversion errors.
      */
-    private static final String CONVERSION_ERRORS = "org.apache.struts2.ActionContext.conversionErrors";
+    static final String CONVERSION_ERRORS = "org.apache.struts2.ActionContext.conversionErrors";
 
     /**
      * Constant for the container
      */
-    private static final String CONTAINER = "org.apache.struts2.ActionContext.container";
+    static final String CONTAINER = "org.apache.struts2.ActionContext.container";
 
     private final Map<String, Object> context;
+    private final transient ActionContextMap slots;
 
     /**
      * Creates a new ActionContext initialized with another context.
@@ -115,6 +116,7 @@ public class ActionContext implements Serializable {
      */
     protected ActionContext(Map<String, Object> context) {
         this.context = context;
+        this.slots = ActionContextMap.unwrap(context);
     }
 
     /**
@@ -131,12 +133,12 @@ public class ActionContext implements Serializable {
     }
 
     /**
-     * Creates a new ActionContext based on empty Map
+     * Creates a new ActionContext based on empty {@link ActionContextMap}
      *
      * @return new ActionContext
      */
     public static ActionContext of() {
-        return of(new HashMap<>());
+        return of(new ActionContextMap());
     }
 
     /**
@@ -195,7 +197,7 @@ public class ActionContext implements Serializable {
      * @param actionInvocation the action execution state.
      */
     public ActionContext withActionInvocation(ActionInvocation actionInvocation) {
-        put(ACTION_INVOCATION, actionInvocation);
+        put(ActionContextMap.ACTION_INVOCATION, ACTION_INVOCATION, actionInvocation);
         return this;
     }
 
@@ -205,7 +207,7 @@ public class ActionContext implements Serializable {
      * @return the action invocation (the execution state).
      */
     public ActionInvocation getActionInvocation() {
-        return (ActionInvocation) get(ACTION_INVOCATION);
+        return (ActionInvocation) get(ActionContextMap.ACTION_INVOCATION, ACTION_INVOCATION);
     }
 
     /**
@@ -214,7 +216,7 @@ public class ActionContext implements Serializable {
      * @param application the action's application context.
      */
     public ActionContext withApplication(Map<String, Object> application) {
-        put(APPLICATION, application);
+        put(ActionContextMap.APPLICATION, APPLICATION, application);
         return this;
     }
 
@@ -225,7 +227,7 @@ public class ActionContext implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public Map<String, Object> getApplication() {
-        return (Map<String, Object>) get(APPLICATION);
+        return (Map<String, Object>) get(ActionContextMap.APPLICATION, APPLICATION);
     }
 
     /**
@@ -243,7 +245,7 @@ public class ActionContext implements Serializable {
      * @param conversionErrors a Map of errors which occurred when executing the action.
      */
     public ActionContext withConversionErrors(Map<String, ConversionData> conversionErrors) {
-        put(CONVERSION_ERRORS, conversionErrors);
+        put(ActionContextMap.CONVERSION_ERRORS, CONVERSION_ERRORS, conversionErrors);
         return this;
     }
 
@@ -255,7 +257,7 @@ public class ActionContext implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public Map<String, ConversionData> getConversionErrors() {
-        Map<String, ConversionData> errors = (Map<String, ConversionData>) get(CONVERSION_ERRORS);
+        Map<String, ConversionData> errors = (Map<String, ConversionData>) get(ActionContextMap.CONVERSION_ERRORS, CONVERSION_ERRORS);
 
         if (errors == null) {
             errors = withConversionErrors(new HashMap<>()).getConversionErrors();
@@ -270,7 +272,7 @@ public class ActionContext implements Serializable {
      * @param locale the Locale for the current action.
      */
     public ActionContext withLocale(Locale locale) {
-        put(LOCALE, locale);
+        put(ActionContextMap.LOCALE, LOCALE, locale);
         return this;
     }
 
@@ -281,7 +283,7 @@ public class ActionContext implements Serializable {
      * @return the Locale of the current action.
      */
     public Locale getLocale() {
-        Locale locale = (Locale) get(LOCALE);
+        Locale locale = (Locale) get(ActionContextMap.LOCALE, LOCALE);
 
         if (locale == null) {
             locale = Locale.getDefault();
@@ -297,7 +299,7 @@ public class ActionContext implements Serializable {
      * @param actionName the name of the current action.
      */
     public ActionContext withActionName(String actionName) {
-        put(ACTION_NAME, actionName);
+        put(ActionContextMap.ACTION_NAME, ACTION_NAME, actionName);
         return this;
     }
 
@@ -307,7 +309,7 @@ public class ActionContext implements Serializable {
      * @return the name of the current action.
      */
     public String getActionName() {
-        return (String) get(ACTION_NAME);
+        return (String) get(ActionContextMap.ACTION_NAME, ACTION_NAME);
     }
 
     /**
@@ -316,8 +318,8 @@ public class ActionContext implements Serializable {
      * @param parameters the parameters for the current action.
      */
     public ActionContext withParameters(HttpParameters parameters) {
-        put(PARAMETERS, parameters);
-        put(DispatcherConstants.PARAMETERS, parameters);
+        put(ActionContextMap.PARAMETERS, PARAMETERS, parameters);
+        put(ActionContextMap.DISPATCHER_PARAMETERS, DispatcherConstants.PARAMETERS, parameters);
         return this;
     }
 
@@ -329,7 +331,7 @@ public class ActionContext implements Serializable {
      * generic Map of parameters otherwise.
      */
     public HttpParameters getParameters() {
-        return (HttpParameters) get(PARAMETERS);
+        return (HttpParameters) get(ActionContextMap.PARAMETERS, PARAMETERS);
     }
 
     /**
@@ -338,7 +340,7 @@ public class ActionContext implements Serializable {
      * @param session the session values.
      */
     public ActionContext withSession(Map<String, Object> session) {
-        put(SESSION, session);
+        put(ActionContextMap.SESSION, SESSION, session);
         return this;
     }
 
@@ -349,7 +351,7 @@ public class ActionContext implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public Map<String, Object> getSession() {
-        return (Map<String, Object>) get(SESSION);
+        return (Map<String, Object>) get(ActionContextMap.SESSION, SESSION);
     }
 
     /**
@@ -358,7 +360,7 @@ public class ActionContext implements Serializable {
      * @param valueStack the OGNL value stack.
      */
     public ActionContext withValueStack(ValueStack valueStack) {
-        put(VALUE_STACK, valueStack);
+        put(ActionContextMap.VALUE_STACK, VALUE_STACK, valueStack);
         return this;
     }
 
@@ -368,7 +370,7 @@ public class ActionContext implements Serializable {
      * @return the OGNL value stack.
      */
     public ValueStack getValueStack() {
-        return (ValueStack) get(VALUE_STACK);
+        return (ValueStack) get(ActionContextMap.VALUE_STACK, VALUE_STACK);
     }
 
     /**
@@ -377,7 +379,7 @@ public class ActionContext implements Serializable {
      * @param container The container
      */
     public ActionContext withContainer(Container container) {
-        put(CONTAINER, container);
+        put(ActionContextMap.CONTAINER, CONTAINER, container);
         return this;
     }
 
@@ -387,7 +389,7 @@ public class ActionContext implements Serializable {
      * @return The container
      */
     public Container getContainer() {
-        return (Container) get(CONTAINER);
+        return (Container) get(ActionContextMap.CONTAINER, CONTAINER);
     }
 
     public <T> T getInstance(Class<T> type) {
@@ -419,13 +421,25 @@ public class ActionContext implements Serializable {
         context.put(key, value);
     }
 
+    private Object get(int slot, String key) {
+        return slots != null ? slots.getSlot(slot) : context.get(key);
+    }
+
+    private void put(int slot, String key, Object value) {
+        if (slots != null) {
+            slots.putSlot(slot, value);
+        } else {
+            context.put(key, value);
+        }
+    }
+
     /**
      * Gets ServletContext associated with current action
      *
      * @return current ServletContext
      */
     public ServletContext getServletContext() {
-        return (ServletContext) get(StrutsStatics.SERVLET_CONTEXT);
+        return (ServletContext) get(ActionContextMap.SERVLET_CONTEXT, StrutsStatics.SERVLET_CONTEXT);
     }
 
     /**
@@ -435,7 +449,7 @@ public class ActionContext implements Serializable {
      * @return ActionContext
      */
     public ActionContext withServletContext(ServletContext servletContext) {
-        put(StrutsStatics.SERVLET_CONTEXT, servletContext);
+        put(ActionContextMap.SERVLET_CONTEXT, StrutsStatics.SERVLET_CONTEXT, servletContext);
         return this;
     }
 
@@ -445,7 +459,7 @@ public class ActionContext implements Serializable {
      * @return current ServletRequest
      */
     public HttpServletRequest getServletRequest() {
-        return (HttpServletRequest) get(StrutsStatics.HTTP_REQUEST);
+        return (HttpServletRequest) get(ActionContextMap.HTTP_REQUEST, StrutsStatics.HTTP_REQUEST);
     }
 
     /**
@@ -455,7 +469,7 @@ public class ActionContext implements Serializable {
      * @return ActionContext
      */
     public ActionContext withServletRequest(HttpServletRequest request) {
-        put(StrutsStatics.HTTP_REQUEST, request);
+        put(ActionContextMap.HTTP_REQUEST, StrutsStatics.HTTP_REQUEST, request);
         return this;
     }
 
@@ -465,7 +479,7 @@ public class ActionContext implements Serializable {
      * @return current ServletResponse
      */
     public HttpServletResponse getServletResponse() {
-        return (HttpServletResponse) get(StrutsStatics.HTTP_RESPONSE);
+        return (HttpServletResponse) get(ActionContextMap.HTTP_RESPONSE, StrutsStatics.HTTP_RESPONSE);
     }
 
     /**
@@ -475,7 +489,7 @@ public class ActionContext implements Serializable {
      * @return ActionContext
      */
     public ActionContext withServletResponse(HttpServletResponse response) {
-        put(StrutsStatics.HTTP_RESPONSE, response);
+        put(ActionContextMap.HTTP_RESPONSE, StrutsStatics.HTTP_RESPONSE, response);
         return this;
     }
 
@@ -485,7 +499,7 @@ public class ActionContext implements Serializable {
      * @return current PageContext
      */
     public PageContext getPageContext() {
-        return (PageContext) get(StrutsStatics.PAGE_CONTEXT);
+        return (PageContext) get(ActionContextMap.PAGE_CONTEXT, StrutsStatics.PAGE_CONTEXT);
     }
 
     /**
@@ -495,7 +509,7 @@ public class ActionContext implements Serializable {
      * @return ActionContext
      */
     public ActionContext withPageContext(PageContext pageContext) {
-        put(StrutsStatics.PAGE_CONTEXT, pageContext);
+        put(ActionContextMap.PAGE_CONTEXT, StrutsStatics.PAGE_CONTEXT, pageContext);
         return this;
     }
 
@@ -505,7 +519,7 @@ public class ActionContext implements Serializable {
      * @return current ActionMapping
      */
     public ActionMapping getActionMapping() {
-        return (ActionMapping) get(StrutsStatics.ACTION_MAPPING);
+        return (ActionMapping) get(ActionContextMap.ACTION_MAPPING, StrutsStatics.ACTION_MAPPING);
     }
 
     /**
@@ -515,7 +529,7 @@ public class ActionContext implements Serializable {
      * @return ActionContext
      */
     public ActionContext withActionMapping(ActionMapping actionMapping) {
-        put(StrutsStatics.ACTION_MAPPING, actionMapping);
+        put(ActionContextMap.ACTION_MAPPING, StrutsStatics.ACTION_MAPPING, actionMapping);
         return this;
     }
 
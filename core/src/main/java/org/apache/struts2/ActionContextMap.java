@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2;
+
+import ognl.OgnlContext;
+import org.apache.struts2.dispatcher.DispatcherConstants;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Context map used by {@link ActionContext}: the well known entries (value stack, invocation, parameters, locale,
+ * session, application, container, servlet objects, ...) are kept in fixed slots, any other key goes to an
+ * overflow map which is only created when needed.
+ * <p>
+ * It behaves like any other {@link Map}, so it can be still used as the OGNL context values, while
+ * {@link ActionContext} reads and writes the well known entries by slot index without hashing the key.
+ *
+ * @since 7.1.1
+ */
+public class ActionContextMap extends AbstractMap<String, Object> implements Serializable {
+
+    static final int VALUE_STACK = 0;
+    static final int ACTION_INVOCATION = 1;
+    static final int PARAMETERS = 2;
+    static final int DISPATCHER_PARAMETERS = 3;
+    static final int LOCALE = 4;
+    static final int SESSION = 5;
+    static final int APPLICATION = 6;
+    static final int CONTAINER = 7;
+    static final int CONVERSION_ERRORS = 8;
+    static final int ACTION_NAME = 9;
+    static final int HTTP_REQUEST = 10;
+    static final int HTTP_RESPONSE = 11;
+    static final int SERVLET_CONTEXT = 12;
+    static final int PAGE_CONTEXT = 13;
+    static final int ACTION_MAPPING = 14;
+
+    private static final String[] SLOT_KEYS = {
+            ActionContext.VALUE_STACK,
+            ActionContext.ACTION_INVOCATION,
+            ActionContext.PARAMETERS,
+            DispatcherConstants.PARAMETERS,
+            ActionContext.LOCALE,
+            ActionContext.SESSION,
+            ActionContext.APPLICATION,
+            ActionContext.CONTAINER,
+            ActionContext.CONVERSION_ERRORS,
+            ActionContext.ACTION_NAME,
+            StrutsStatics.HTTP_REQUEST,
+            StrutsStatics.HTTP_RESPONSE,
+            StrutsStatics.SERVLET_CONTEXT,
+            StrutsStatics.PAGE_CONTEXT,
+            StrutsStatics.ACTION_MAPPING
+    };
+
+    private final Object[] slots = new Object[SLOT_KEYS.length];
+    private int present;
+    private Map<String, Object> overflow;
+
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public ActionContextMap() {
+    }
+
+    public ActionContextMap(Map<String, Object> context) {
+        putAll(context);
+    }
+
+    /**
+     * Returns the slot based map backing the given context, either the context itself or values of
+     * an {@link OgnlContext} created on top of {@link ActionContextMap}.
+     *
+     * @param context a context map
+     * @return the backing {@link ActionContextMap} or null if the context isn't backed by one
+     */
+    static ActionContextMap unwrap(Map<String, Object> context) {
+        if (context instanceof ActionContextMap contextMap) {
+            return contextMap;
+        }
+        if (context instanceof OgnlContext ognlContext && ognlContext.getValues() instanceof ActionContextMap contextMap) {
+            return contextMap;
+        }
+        return null;
+    }
+
+    static int slotOf(Object key) {
+        if (!(key instanceof String name)) {
+            return -1;
+        }
+        return switch (name) {
+            case ActionContext.VALUE_STACK -> VALUE_STACK;
+            case ActionContext.ACTION_INVOCATION -> ACTION_INVOCATION;
+            case ActionContext.PARAMETERS -> PARAMETERS;
+            case DispatcherConstants.PARAMETERS -> DISPATCHER_PARAMETERS;
+            case ActionContext.LOCALE -> LOCALE;
+            case ActionContext.SESSION -> SESSION;
+            case ActionContext.APPLICATION -> APPLICATION;
+            case ActionContext.CONTAINER -> CONTAINER;
+            case ActionContext.CONVERSION_ERRORS -> CONVERSION_ERRORS;
+            case ActionContext.ACTION_NAME -> ACTION_NAME;
+            case StrutsStatics.HTTP_REQUEST -> HTTP_REQUEST;
+            case StrutsStatics.HTTP_RESPONSE -> HTTP_RESPONSE;
+            case StrutsStatics.SERVLET_CONTEXT -> SERVLET_CONTEXT;
+            case StrutsStatics.PAGE_CONTEXT -> PAGE_CONTEXT;
+            case StrutsStatics.ACTION_MAPPING -> ACTION_MAPPING;
+            default -> -1;
+        };
+    }
+
+    Object getSlot(int slot) {
+        return slots[slot];
+    }
+
+    Object putSlot(int slot, Object value) {
+        Object previous = slots[slot];
+        slots[slot] = value;
+        present |= 1 << slot;
+        return previous;
+    }
+
+    private Object removeSlot(int slot) {
+        Object previous = slots[slot];
+        slots[slot] = null;
+        present &= ~(1 << slot);
+        return previous;
+    }
+
+    private boolean hasSlot(int slot) {
+        return (present & (1 << slot)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(present) + (overflow == null ? 0 : overflow.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return hasSlot(slot);
+        }
+        return overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return slots[slot];
+        }
+        return overflow == null ? null : overflow.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return putSlot(slot, value);
+        }
+        if (overflow == null) {
+            overflow = new HashMap<>();
+        }
+        return overflow.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int slot = slotOf(key);
+        if (slot >= 0) {
+            return removeSlot(slot);
+        }
+        return overflow == null ? null : overflow.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        for (Entry<? extends String, ?> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = null;
+        }
+        present = 0;
+        if (overflow != null) {
+            overflow.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ActionContextMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ActionContextMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int nextSlot = nextPresentSlot(0);
+        private int lastSlot = -1;
+        private Iterator<Entry<String, Object>> overflowIterator;
+
+        private int nextPresentSlot(int from) {
+            for (int i = from; i < slots.length; i++) {
+                if (hasSlot(i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextSlot >= 0) {
+                return true;
+            }
+            if (overflowIterator == null && overflow != null) {
+                overflowIterator = overflow.entrySet().iterator();
+            }
+            return overflowIterator != null && overflowIterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextSlot >= 0) {
+                lastSlot = nextSlot;
+                nextSlot = nextPresentSlot(nextSlot + 1);
+                return new SlotEntry(lastSlot);
+            }
+            lastSlot = -1;
+            return overflowIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot >= 0) {
+                removeSlot(lastSlot);
+                lastSlot = -1;
+            } else if (overflowIterator != null) {
+                overflowIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private final class SlotEntry implements Entry<String, Object> {
+
+        private final int slot;
+
+        private SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return SLOT_KEYS[slot];
+        }
+
+        @Override
+        public Object getValue() {
+            return slots[slot];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return putSlot(slot, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> other
+                    && getKey().equals(other.getKey())
+                    && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
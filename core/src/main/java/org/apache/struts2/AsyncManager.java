@@ -19,10 +19,15 @@
 package org.apache.struts2;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Adds support for invoke async actions. This allows us to support action methods that return {@link Callable}
  * as well as invoking them in separate not-container thread then executing the result in another container thread.
+ * Action methods can also return {@link CompletionStage} or {@link java.util.concurrent.Flow.Publisher}, the result
+ * is executed once the stage completes or the publisher emits its last item.
  *
  * @since 6.0.0
  */
@@ -32,4 +37,22 @@ public interface AsyncManager {
     Object getAsyncActionResult();
 
     void invokeAsyncAction(Callable asyncAction);
+
+    /**
+     * Invokes an async action which completes with the given stage, by default it waits for the stage
+     * in a separate thread like a {@link Callable}, implementations should rather dispatch the result
+     * when the stage completes without blocking any thread.
+     *
+     * @param asyncAction stage completed with the result of the action
+     * @since 7.1.1
+     */
+    default void invokeAsyncAction(CompletionStage<?> asyncAction) {
+        invokeAsyncAction((Callable<Object>) () -> {
+            try {
+                return asyncAction.toCompletableFuture().get();
+            } catch (ExecutionException | CompletionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        });
+    }
 }
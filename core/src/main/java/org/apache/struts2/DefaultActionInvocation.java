@@ -29,6 +29,8 @@ import org.apache.struts2.config.entities.InterceptorMapping;
 import org.apache.struts2.config.entities.ResultConfig;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.Inject;
+import org.apache.struts2.instrumentation.RequestInstrumentation;
+import org.apache.struts2.instrumentation.RequestInstrumentation.Phase;
 import org.apache.struts2.interceptor.ConditionalInterceptor;
 import org.apache.struts2.interceptor.Interceptor;
 import org.apache.struts2.interceptor.PreResultListener;
@@ -44,6 +46,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 /**
  * The Default ActionInvocation implementation
@@ -77,7 +82,9 @@ public class DefaultActionInvocation implements ActionInvocation {
     protected OgnlUtil ognlUtil;
     protected AsyncManager asyncManager;
     protected Callable<?> asyncAction;
+    protected CompletionStage<?> asyncStage;
     protected WithLazyParams.LazyParamInjector lazyParamInjector;
+    protected RequestInstrumentation requestInstrumentation;
 
     public DefaultActionInvocation(final Map<String, Object> extraContext, final boolean pushAction) {
         this.extraContext = extraContext;
@@ -120,6 +127,11 @@ public class DefaultActionInvocation implements ActionInvocation {
         this.asyncManager = asyncManager;
     }
 
+    @Inject(required = false)
+    public void setRequestInstrumentation(RequestInstrumentation requestInstrumentation) {
+        this.requestInstrumentation = requestInstrumentation;
+    }
+
     @Override
     public Object getAction() {
         return action;
@@ -261,14 +273,18 @@ public class DefaultActionInvocation implements ActionInvocation {
                 if (interceptor instanceof WithLazyParams) {
                     interceptor = lazyParamInjector.injectParams(interceptor, interceptorMapping.getParams(), invocationContext);
                 }
-                if (interceptor instanceof ConditionalInterceptor conditionalInterceptor) {
-                    resultCode = executeConditional(conditionalInterceptor);
-                } else {
-                    LOG.debug("Executing normal interceptor: {}", interceptorMapping.getName());
-                    resultCode = interceptor.intercept(this);
+                try (RequestInstrumentation.Probe ignored = startProbe(Phase.INTERCEPTOR, interceptorMapping.getName())) {
+                    if (interceptor instanceof ConditionalInterceptor conditionalInterceptor) {
+                        resultCode = executeConditional(conditionalInterceptor);
+                    } else {
+                        LOG.debug("Executing normal interceptor: {}", interceptorMapping.getName());
+                        resultCode = interceptor.intercept(this);
+                    }
                 }
             } else {
-                resultCode = invokeActionOnly();
+                try (RequestInstrumentation.Probe ignored = startProbe(Phase.ACTION, proxy.getMethod())) {
+                    resultCode = invokeActionOnly();
+                }
             }
         } else {
             Object asyncActionResult = asyncManager.getAsyncActionResult();
@@ -276,10 +292,11 @@ public class DefaultActionInvocation implements ActionInvocation {
                 throw new Exception((Throwable) asyncActionResult);
             }
             asyncAction = null;
+            asyncStage = null;
             resultCode = saveResult(proxy.getConfig(), asyncActionResult);
         }
 
-        if (asyncManager == null || asyncAction == null) {
+        if (asyncManager == null || (asyncAction == null && asyncStage == null)) {
             // this is needed because the result will be executed, then control will return to the Interceptor, which will
             // return above and flow through again
             if (!executed) {
@@ -287,7 +304,9 @@ public class DefaultActionInvocation implements ActionInvocation {
                     LOG.trace("Executing PreResultListeners for result [{}]", result);
 
                     for (PreResultListener listener : preResultListeners) {
-                        listener.beforeResult(this, resultCode);
+                        try (RequestInstrumentation.Probe ignored = startProbe(Phase.PRE_RESULT_LISTENER, listener.getClass().getName())) {
+                            listener.beforeResult(this, resultCode);
+                        }
                     }
                 }
 
@@ -298,6 +317,8 @@ public class DefaultActionInvocation implements ActionInvocation {
 
                 executed = true;
             }
+        } else if (asyncStage != null) {
+            asyncManager.invokeAsyncAction(asyncStage);
         } else {
             asyncManager.invokeAsyncAction(asyncAction);
         }
@@ -386,7 +407,9 @@ public class DefaultActionInvocation implements ActionInvocation {
         result = createResult();
 
         if (result != null) {
-            result.execute(this);
+            try (RequestInstrumentation.Probe ignored = startProbe(Phase.RESULT, resultCode)) {
+                result.execute(this);
+            }
         } else if (resultCode != null && !Action.NONE.equals(resultCode)) {
             throw new ConfigurationException("No result defined for action " + getAction().getClass().getName()
                 + " and result " + getResultCode(), proxy.getConfig());
@@ -397,6 +420,13 @@ public class DefaultActionInvocation implements ActionInvocation {
         }
     }
 
+    protected RequestInstrumentation.Probe startProbe(Phase phase, String name) {
+        if (requestInstrumentation == null) {
+            return RequestInstrumentation.Probe.NOOP;
+        }
+        return requestInstrumentation.start(phase, proxy.getConfig(), name);
+    }
+
     @Override
     public void init(ActionProxy proxy) {
         this.proxy = proxy;
@@ -506,9 +536,49 @@ public class DefaultActionInvocation implements ActionInvocation {
         } else if (methodResult instanceof Callable) {
             asyncAction = (Callable<?>) methodResult;
             return null;
+        } else if (methodResult instanceof CompletionStage<?> stage) {
+            asyncStage = stage;
+            return null;
+        } else if (methodResult instanceof Flow.Publisher<?> publisher) {
+            asyncStage = lastItemOf(publisher);
+            return null;
         } else {
             return (String) methodResult;
         }
     }
 
+    /**
+     * Subscribes to the publisher returned by an action method
+     *
+     * @param publisher the publisher
+     * @return stage completed with the last item emitted by the publisher
+     */
+    protected CompletionStage<Object> lastItemOf(Flow.Publisher<?> publisher) {
+        CompletableFuture<Object> stage = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<Object>() {
+            private Object last;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Object item) {
+                last = item;
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                stage.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                stage.complete(last);
+            }
+        });
+        return stage;
+    }
+
 }
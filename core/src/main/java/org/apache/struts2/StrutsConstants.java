@@ -200,6 +200,11 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_UI_ESCAPE_HTML_BODY = "struts.ui.escapeHtmlBody";
 
+    /**
+     * Max number of fragments kept per scope by the {@link org.apache.struts2.components.Cache} tag
+     */
+    public static final String STRUTS_UI_CACHE_MAX_ENTRIES = "struts.ui.cache.maxEntries";
+
     /**
      * The maximum size of a multipart request (file upload)
      */
@@ -306,6 +311,21 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_SERVE_STATIC_BROWSER_CACHE = "struts.serve.static.browserCache";
 
+    /**
+     * If static content served by the Struts filter should be kept in memory together with its compressed variant
+     *
+     * @since 7.1.1
+     */
+    public static final String STRUTS_SERVE_STATIC_CACHE = "struts.serve.static.cache";
+
+    /**
+     * Maximum number of static resources kept in memory, least valuable ones are evicted once reached, 0 disables
+     * the cache
+     *
+     * @since 7.1.1
+     */
+    public static final String STRUTS_SERVE_STATIC_CACHE_MAX_SIZE = "struts.serve.static.cache.maxSize";
+
     /**
      * Allows one to disable dynamic method invocation from the URL
      */
@@ -674,10 +694,59 @@ public final class StrutsConstants {
      */
     public static final String STRUTS_EXECUTOR_PROVIDER = "struts.executor.provider";
 
+    /**
+     * Maximum number of threads used by {@link org.apache.struts2.interceptor.exec.StrutsExecutorProvider}
+     * @since 7.1.1
+     */
+    public static final String STRUTS_EXECUTOR_MAX_THREADS = "struts.executor.maxThreads";
+
+    /**
+     * Number of background processes queued by {@link org.apache.struts2.interceptor.exec.StrutsExecutorProvider}
+     * when all threads are busy
+     * @since 7.1.1
+     */
+    public static final String STRUTS_EXECUTOR_QUEUE_CAPACITY = "struts.executor.queueCapacity";
+
+    /**
+     * Runs background processes of {@link org.apache.struts2.interceptor.exec.StrutsExecutorProvider} on virtual threads
+     * @since 7.1.1
+     */
+    public static final String STRUTS_EXECUTOR_VIRTUAL_THREADS = "struts.executor.virtualThreads";
+
+    /**
+     * Exposes statistics of {@link org.apache.struts2.interceptor.exec.StrutsExecutorProvider} over JMX
+     * @since 7.1.1
+     */
+    public static final String STRUTS_EXECUTOR_JMX = "struts.executor.jmx";
+
     /**
      * See {@link org.apache.struts2.interceptor.csp.CspNonceReader}
      * @since 6.8.0
      */
     public static final String STRUTS_CSP_NONCE_READER = "struts.csp.nonce.reader";
     public static final String STRUTS_CSP_NONCE_SOURCE = "struts.csp.nonce.source";
+
+    /**
+     * See {@link org.apache.struts2.instrumentation.RequestInstrumentation}
+     * @since 7.1.1
+     */
+    public static final String STRUTS_INSTRUMENTATION = "struts.instrumentation";
+
+    /**
+     * Enables collecting per phase timings by {@link org.apache.struts2.instrumentation.DefaultRequestInstrumentation}
+     * @since 7.1.1
+     */
+    public static final String STRUTS_INSTRUMENTATION_ENABLED = "struts.instrumentation.enabled";
+
+    /**
+     * Enables measuring bytes allocated in each phase when supported by the JVM
+     * @since 7.1.1
+     */
+    public static final String STRUTS_INSTRUMENTATION_ALLOCATION = "struts.instrumentation.allocation";
+
+    /**
+     * Exposes collected statistics over JMX
+     * @since 7.1.1
+     */
+    public static final String STRUTS_INSTRUMENTATION_JMX = "struts.instrumentation.jmx";
 }
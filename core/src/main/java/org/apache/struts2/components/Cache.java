@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.components.cache.FragmentCache;
+import org.apache.struts2.dispatcher.DispatcherConstants;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.util.ValueStack;
+import org.apache.struts2.views.annotations.StrutsTag;
+import org.apache.struts2.views.annotations.StrutsTagAttribute;
+
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <!-- START SNIPPET: javadoc -->
+ * <p>Caches the rendered body of the tag under a key evaluated against the value stack. As long as the cached
+ * fragment didn't expire, the body isn't evaluated again and the cached output is written instead.</p>
+ *
+ * <p>Fragments are kept in a bounded cache stored either in the application scope (shared by all users) or
+ * in the session scope (per user), the least recently used fragments are evicted when the limit defined
+ * by <code>struts.ui.cache.maxEntries</code> is reached.</p>
+ * <!-- END SNIPPET: javadoc -->
+ *
+ * <!-- START SNIPPET: params -->
+ * <ul>
+ *      <li>key* (String) - key of the cached fragment, evaluated against the value stack</li>
+ *      <li>ttl (Integer) - time to live of the cached fragment in seconds, defaults to 60</li>
+ *      <li>scope (String) - application or session, defaults to application</li>
+ * </ul>
+ * <!-- END SNIPPET: params -->
+ *
+ * <p><b>Examples</b></p>
+ * <pre>
+ * <!-- START SNIPPET: example -->
+ * &lt;s:cache key="'menu_' + #session.userRole" ttl="300"&gt;
+ *     &lt;s:action name="menu" executeResult="true"/&gt;
+ * &lt;/s:cache&gt;
+ * <!-- END SNIPPET: example -->
+ * </pre>
+ *
+ * @since 7.1.1
+ */
+@StrutsTag(name = "cache", tldTagClass = "org.apache.struts2.views.jsp.CacheTag",
+        description = "Caches the rendered body of the tag for the given time to live")
+public class Cache extends Component {
+
+    private static final Logger LOG = LogManager.getLogger(Cache.class);
+
+    /**
+     * Name of the attribute under which the {@link FragmentCache} is stored in the application or session scope
+     */
+    public static final String FRAGMENT_CACHE_KEY = Cache.class.getName() + ".fragments";
+
+    public static final int DEFAULT_TTL = 60;
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    protected String key;
+    protected String ttl;
+    protected String scope;
+
+    private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+    private FragmentCache fragmentCache;
+    private String fragmentKey;
+    private String cachedFragment;
+
+    public Cache(ValueStack stack) {
+        super(stack);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_UI_CACHE_MAX_ENTRIES, required = false)
+    public void setMaxEntries(String maxEntries) {
+        this.maxEntries = Integer.parseInt(maxEntries);
+    }
+
+    @Override
+    public boolean start(Writer writer) {
+        boolean result = super.start(writer);
+
+        Object evaluatedKey = findValue(key, "key", "You must specify a key of the cached fragment. Example: 'menu_' + user.role");
+        if (evaluatedKey == null) {
+            LOG.debug("Key [{}] evaluated to null, fragment won't be cached", key);
+            return result;
+        }
+
+        fragmentKey = evaluatedKey.toString();
+        fragmentCache = findFragmentCache();
+        if (fragmentCache != null) {
+            cachedFragment = fragmentCache.get(fragmentKey);
+        }
+
+        if (cachedFragment != null) {
+            LOG.trace("Using cached fragment for key [{}]", fragmentKey);
+            return false;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean end(Writer writer, String body) {
+        if (cachedFragment != null) {
+            return super.end(writer, cachedFragment);
+        }
+
+        if (fragmentCache != null) {
+            LOG.trace("Caching fragment for key [{}]", fragmentKey);
+            fragmentCache.put(fragmentKey, body, TimeUnit.SECONDS.toMillis(getTtl()));
+        }
+        return super.end(writer, body);
+    }
+
+    protected FragmentCache findFragmentCache() {
+        Map<String, Object> scopeMap;
+        if (DispatcherConstants.SESSION.equalsIgnoreCase(scope)) {
+            scopeMap = getStack().getActionContext().getSession();
+        } else {
+            scopeMap = getStack().getActionContext().getApplication();
+        }
+
+        if (scopeMap == null) {
+            LOG.debug("No {} scope available, fragment [{}] won't be cached", StringUtils.defaultString(scope, DispatcherConstants.APPLICATION), fragmentKey);
+            return null;
+        }
+
+        // a concurrent first render may create the cache twice, the last one wins which just costs one extra render
+        FragmentCache cache = (FragmentCache) scopeMap.get(FRAGMENT_CACHE_KEY);
+        if (cache == null) {
+            cache = new FragmentCache(maxEntries);
+            scopeMap.put(FRAGMENT_CACHE_KEY, cache);
+        }
+        return cache;
+    }
+
+    protected int getTtl() {
+        if (ttl == null) {
+            return DEFAULT_TTL;
+        }
+        String value = findString(ttl);
+        try {
+            return Integer.parseInt(StringUtils.trim(value));
+        } catch (NumberFormatException e) {
+            throw fieldError("ttl", "Time to live must be a number of seconds, but was: " + value, e);
+        }
+    }
+
+    @StrutsTagAttribute(description = "Key of the cached fragment, evaluated against the value stack", required = true)
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    @StrutsTagAttribute(description = "Time to live of the cached fragment in seconds", type = "Integer", defaultValue = "60")
+    public void setTtl(String ttl) {
+        this.ttl = ttl;
+    }
+
+    @StrutsTagAttribute(description = "The scope in which the fragment is cached, <b>application</b> or <b>session</b>", defaultValue = "application")
+    public void setScope(String scope) {
+        this.scope = scope;
+    }
+
+    @Override
+    public boolean usesBody() {
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components.cache;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least recently used cache of rendered template fragments used by the
+ * {@link org.apache.struts2.components.Cache} component. Each entry expires after its own time to live,
+ * expired entries are dropped when accessed and the least recently used entries are evicted once
+ * the limit of entries is reached.
+ *
+ * <p>Instances are stored in the application or session scope, hence the cache is {@link Serializable}.</p>
+ *
+ * @since 7.1.1
+ */
+public class FragmentCache implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6917234071533487153L;
+
+    private final Map<String, Fragment> fragments;
+
+    public FragmentCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Max entries must be greater than zero, but was: " + maxEntries);
+        }
+        // Access-order mode selected (order mode true in LinkedHashMap constructor).
+        this.fragments = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Serial
+            private static final long serialVersionUID = -2405839203475297284L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Fragment> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param key the key of the fragment
+     * @return the rendered fragment or null if there is no fragment for the key or it already expired
+     */
+    public String get(String key) {
+        Fragment fragment = fragments.get(key);
+        if (fragment == null) {
+            return null;
+        }
+        if (fragment.isExpired(System.currentTimeMillis())) {
+            fragments.remove(key, fragment);
+            return null;
+        }
+        return fragment.content;
+    }
+
+    /**
+     * @param key     the key of the fragment
+     * @param content the rendered fragment
+     * @param ttl     time to live of the fragment in milliseconds
+     */
+    public void put(String key, String content, long ttl) {
+        if (ttl <= 0) {
+            return;
+        }
+        fragments.put(key, new Fragment(content, System.currentTimeMillis() + ttl));
+    }
+
+    public void remove(String key) {
+        fragments.remove(key);
+    }
+
+    public int size() {
+        return fragments.size();
+    }
+
+    public void clear() {
+        fragments.clear();
+    }
+
+    private static class Fragment implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 2150287541726734851L;
+
+        private final String content;
+        private final long expiresAt;
+
+        private Fragment(String content, long expiresAt) {
+            this.content = content;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -18,6 +18,12 @@
  */
 package org.apache.struts2.components.template;
 
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.FileManager;
+import org.apache.struts2.FileManagerFactory;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.inject.Initializable;
+import org.apache.struts2.inject.Inject;
 import org.apache.struts2.util.ClassLoaderUtil;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -25,14 +31,17 @@ import org.apache.struts2.ServletActionContext;
 
 import jakarta.servlet.ServletContext;
 import java.io.*;
+import java.net.URL;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Base class for template engines.
  */
-public abstract class BaseTemplateEngine implements TemplateEngine {
+public abstract class BaseTemplateEngine implements TemplateEngine, Initializable {
 
     private static final Logger LOG = LogManager.getLogger(BaseTemplateEngine.class);
 
@@ -42,29 +51,123 @@ public abstract class BaseTemplateEngine implements TemplateEngine {
     public static final String DEFAULT_THEME_PROPERTIES_FILE_NAME = "theme.properties";
 
     private final Map<String, Properties> themeProps = new ConcurrentHashMap<>();
+    private final Map<String, URL> themePropsUrls = new ConcurrentHashMap<>();
+
+    private String defaultTemplateDir;
+    private String defaultTheme;
+    private FileManager fileManager;
+    private boolean reloadingConfigs;
+
+    @Inject(value = StrutsConstants.STRUTS_UI_TEMPLATEDIR, required = false)
+    public void setDefaultTemplateDir(String defaultTemplateDir) {
+        this.defaultTemplateDir = defaultTemplateDir;
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_UI_THEME, required = false)
+    public void setDefaultTheme(String defaultTheme) {
+        this.defaultTheme = defaultTheme;
+    }
+
+    @Inject(required = false)
+    public void setFileManagerFactory(FileManagerFactory fileManagerFactory) {
+        this.fileManager = fileManagerFactory.getFileManager();
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_CONFIGURATION_XML_RELOAD, required = false)
+    public void setReloadingConfigs(String reloadingConfigs) {
+        this.reloadingConfigs = Boolean.parseBoolean(reloadingConfigs);
+    }
+
+    @Override
+    public void init() {
+        preloadThemeProps();
+    }
+
+    /**
+     * Loads properties of the default theme and all its parent themes, so the first requests don't have to.
+     * Themes which cannot be found yet (e.g. only available via the ServletContext) are loaded on first use.
+     */
+    protected void preloadThemeProps() {
+        if (defaultTemplateDir == null || defaultTheme == null) {
+            return;
+        }
+        Set<String> visited = new HashSet<>();
+        String theme = defaultTheme;
+        while (theme != null && visited.add(theme)) {
+            Properties props = readProperties(new Template(defaultTemplateDir, theme, null));
+            if (props == null) {
+                LOG.debug("Cannot preload properties of theme [{}], they will be loaded on first use", theme);
+                return;
+            }
+            themeProps.putIfAbsent(theme, props);
+            theme = props.getProperty("parent");
+        }
+    }
 
     public Map getThemeProps(Template template) {
-        Properties props = themeProps.get(template.getTheme());
-        if (props == null) {
-            synchronized (themeProps) {
-                props = readNewProperties(template);
-                themeProps.put(template.getTheme(), props);
+        String theme = template.getTheme();
+        if (reloadingConfigs && fileManager != null) {
+            URL url = themePropsUrls.get(theme);
+            if (url != null && fileManager.fileNeedsReloading(url)) {
+                LOG.debug("Reloading properties of theme [{}] from [{}]", theme, url);
+                themeProps.remove(theme);
             }
         }
-        return props;
+        return themeProps.computeIfAbsent(theme, key -> readNewProperties(template));
     }
 
     private Properties readNewProperties(Template template) {
+        Properties props = readProperties(template);
+        return props != null ? props : new Properties();
+    }
+
+    /**
+     * @return loaded properties or null if there is no properties file for the template's theme
+     */
+    private Properties readProperties(Template template) {
         String propName = buildPropertyFilename(template);
-        return loadProperties(propName);
+        Properties props = loadProperties(propName);
+        if (props != null && reloadingConfigs && fileManager != null) {
+            monitorProperties(template.getTheme(), propName);
+        }
+        return props;
+    }
+
+    private void monitorProperties(String theme, String propName) {
+        URL url = findPropertyUrl(propName);
+        if (url != null) {
+            fileManager.monitorFile(url);
+            themePropsUrls.put(theme, url);
+        }
+    }
+
+    private URL findPropertyUrl(String propName) {
+        try {
+            File propFile = new File(propName);
+            if (propFile.exists()) {
+                return propFile.toURI().toURL();
+            }
+            URL url = ClassLoaderUtil.getResource(propName, getClass());
+            if (url == null && ActionContext.getContext() != null) {
+                ServletContext servletContext = ServletActionContext.getServletContext();
+                if (servletContext != null) {
+                    url = servletContext.getResource(propName.startsWith("/") ? propName : "/" + propName);
+                }
+            }
+            return url;
+        } catch (IOException e) {
+            LOG.warn("Unable to resolve URL of [{}], changes won't be detected", propName, e);
+            return null;
+        }
     }
 
     private Properties loadProperties(String propName) {
         InputStream is = readProperty(propName);
-        Properties props = new Properties();
-        if (is != null) {
-            tryToLoadPropertiesFromStream(props, propName, is);
+        if (is == null) {
+            return null;
         }
+        Properties props = new Properties();
+        tryToLoadPropertiesFromStream(props, propName, is);
         return props;
     }
 
@@ -80,7 +183,7 @@ public abstract class BaseTemplateEngine implements TemplateEngine {
     }
 
     private InputStream readPropertyUsingServletContext(String propName) {
-        ServletContext servletContext = ServletActionContext.getServletContext();
+        ServletContext servletContext = ActionContext.getContext() != null ? ServletActionContext.getServletContext() : null;
         String path = propName.startsWith("/") ? propName : "/" + propName;
         if (servletContext != null) {
             return servletContext.getResourceAsStream(path);
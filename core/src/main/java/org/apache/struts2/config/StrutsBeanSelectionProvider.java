@@ -55,6 +55,7 @@ import org.apache.struts2.factory.UnknownHandlerFactory;
 import org.apache.struts2.factory.ValidatorFactory;
 import org.apache.struts2.inject.ContainerBuilder;
 import org.apache.struts2.inject.Scope;
+import org.apache.struts2.instrumentation.RequestInstrumentation;
 import org.apache.struts2.interceptor.csp.CspNonceReader;
 import org.apache.struts2.interceptor.exec.ExecutorProvider;
 import org.apache.struts2.ognl.BeanInfoCacheFactory;
@@ -451,6 +452,8 @@ public class StrutsBeanSelectionProvider extends AbstractBeanSelectionProvider {
 
         alias(ExecutorProvider.class, StrutsConstants.STRUTS_EXECUTOR_PROVIDER, builder, props, Scope.SINGLETON);
 
+        alias(RequestInstrumentation.class, StrutsConstants.STRUTS_INSTRUMENTATION, builder, props, Scope.SINGLETON);
+
         alias(CspNonceReader.class, StrutsConstants.STRUTS_CSP_NONCE_READER, builder, props, Scope.SINGLETON);
 
         switchDevMode(props);
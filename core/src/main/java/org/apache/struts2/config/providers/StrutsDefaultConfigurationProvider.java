@@ -68,6 +68,8 @@ import org.apache.struts2.validator.ValidatorFileParser;
 import ognl.PropertyAccessor;
 import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.dispatcher.Parameter;
+import org.apache.struts2.instrumentation.DefaultRequestInstrumentation;
+import org.apache.struts2.instrumentation.RequestInstrumentation;
 import org.apache.struts2.interceptor.csp.CspNonceReader;
 import org.apache.struts2.interceptor.csp.StrutsCspNonceReader;
 import org.apache.struts2.interceptor.exec.ExecutorProvider;
@@ -162,6 +164,7 @@ public class StrutsDefaultConfigurationProvider implements ConfigurationProvider
                 .factory(UrlDecoder.class, StrutsUrlDecoder.class, Scope.SINGLETON)
 
                 .factory(ExecutorProvider.class, StrutsExecutorProvider.class, Scope.SINGLETON)
+                .factory(RequestInstrumentation.class, DefaultRequestInstrumentation.class, Scope.SINGLETON)
 
                 .factory(CspNonceReader.class, StrutsCspNonceReader.class, Scope.SINGLETON);
 
@@ -40,11 +40,18 @@ import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DateConverter extends DefaultTypeConverter {
 
     private final static Logger LOG = LogManager.getLogger(DateConverter.class);
 
+    /**
+     * Localized date formats are expensive to create and aren't thread-safe, so they are kept per locale
+     * as prototypes and cloned before parsing. Only locales available in the JDK are kept, so the map is bounded.
+     */
+    private final Map<Locale, DateFormat[]> localizedDateFormats = new ConcurrentHashMap<>();
+
     @Override
     public Object convertValue(Map<String, Object> context, Object target, Member member, String propertyName,
             Object value, Class toType) {
@@ -79,7 +86,8 @@ public class DateConverter extends DefaultTypeConverter {
                 Date check;
                 DateFormat[] dfs = getDateFormats(ActionContext.of(context), locale);
 
-                for (DateFormat df1 : dfs) {
+                for (DateFormat prototype : dfs) {
+                    DateFormat df1 = (DateFormat) prototype.clone();
                     try {
                         check = df1.parse(sa);
                         df = df1;
@@ -129,7 +137,9 @@ public class DateConverter extends DefaultTypeConverter {
 
             // final fallback for dates without time
             if (df == null) {
-                df = DateFormat.getDateInstance(DateFormat.SHORT, locale);
+                df = isAvailableLocale(locale)
+                        ? (DateFormat) localizedDateFormats(locale)[3].clone()
+                        : DateFormat.getDateInstance(DateFormat.SHORT, locale);
             }
             try {
                 df.setLenient(false); // let's use strict parsing (XW-341)
@@ -183,7 +193,8 @@ public class DateConverter extends DefaultTypeConverter {
     }
 
     /**
-     * Retrieves the list of date formats to be used when converting dates
+     * Retrieves the list of date formats to be used when converting dates, the localized formats
+     * are shared and must be cloned before use
      *
      * @param context the current ActionContext
      * @param locale  the current locale of the action
@@ -196,13 +207,7 @@ public class DateConverter extends DefaultTypeConverter {
             globalDateFormat = new SimpleDateFormat(globalFormat, locale);
         }
 
-        DateFormat dt1 = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, locale);
-        DateFormat dt2 = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM, locale);
-        DateFormat dt3 = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
-
-        DateFormat d1 = DateFormat.getDateInstance(DateFormat.SHORT, locale);
-        DateFormat d2 = DateFormat.getDateInstance(DateFormat.MEDIUM, locale);
-        DateFormat d3 = DateFormat.getDateInstance(DateFormat.LONG, locale);
+        DateFormat[] localized = localizedDateFormats(locale);
 
         DateFormat rfc3339 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
         DateFormat rfc3339dateOnly = new SimpleDateFormat("yyyy-MM-dd");
@@ -210,14 +215,34 @@ public class DateConverter extends DefaultTypeConverter {
         final DateFormat[] dateFormats;
 
         if (globalDateFormat == null) {
-            dateFormats = new DateFormat[] { dt1, dt2, dt3, rfc3339, d1, d2, d3, rfc3339dateOnly };
+            dateFormats = new DateFormat[] { localized[0], localized[1], localized[2], rfc3339,
+                    localized[3], localized[4], localized[5], rfc3339dateOnly };
         } else {
-            dateFormats = new DateFormat[] { globalDateFormat, dt1, dt2, dt3, rfc3339, d1, d2, d3, rfc3339dateOnly };
+            dateFormats = new DateFormat[] { globalDateFormat, localized[0], localized[1], localized[2], rfc3339,
+                    localized[3], localized[4], localized[5], rfc3339dateOnly };
         }
 
         return dateFormats;
     }
 
+    private DateFormat[] localizedDateFormats(Locale locale) {
+        if (!isAvailableLocale(locale)) {
+            return createLocalizedDateFormats(locale);
+        }
+        return localizedDateFormats.computeIfAbsent(locale, DateConverter::createLocalizedDateFormats);
+    }
+
+    private static DateFormat[] createLocalizedDateFormats(Locale locale) {
+        return new DateFormat[] {
+                DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.LONG, locale),
+                DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM, locale),
+                DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale),
+                DateFormat.getDateInstance(DateFormat.SHORT, locale),
+                DateFormat.getDateInstance(DateFormat.MEDIUM, locale),
+                DateFormat.getDateInstance(DateFormat.LONG, locale)
+        };
+    }
+
     /**
      * Retrieves the list of date time formats to be used when converting dates
      *
@@ -37,6 +37,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <!-- START SNIPPET: javadoc -->
@@ -67,6 +68,25 @@ public class DefaultObjectTypeDeterminer implements ObjectTypeDeterminer {
     private final ReflectionProvider reflectionProvider;
     private final XWorkConverter xworkConverter;
 
+    private final Map<Class<?>, Map<String, PropertyTypes>> propertyTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Annotations and generic type arguments of a collection or map property, they are resolved by reflection
+     * once per class and property as they cannot change, unlike the conversion properties files which are
+     * still consulted on each call as they can be reloaded.
+     *
+     * @param key               the {@link Key} annotation of the property or null
+     * @param element           the {@link Element} annotation of the property or null
+     * @param keyProperty       the {@link KeyProperty} annotation of the property or null
+     * @param createIfNull      the {@link CreateIfNull} annotation of the property or null
+     * @param genericKeyClass   the key class declared by the generic type of the property or null
+     * @param genericElementClass the element class declared by the generic type of the property or null
+     * @since 7.1.1
+     */
+    protected record PropertyTypes(Key key, Element element, KeyProperty keyProperty, CreateIfNull createIfNull,
+                                   Class<?> genericKeyClass, Class<?> genericElementClass) {
+    }
+
     @Inject
     public DefaultObjectTypeDeterminer(@Inject XWorkConverter converter, @Inject ReflectionProvider provider) {
         this.reflectionProvider = provider;
@@ -85,15 +105,15 @@ public class DefaultObjectTypeDeterminer implements ObjectTypeDeterminer {
      * @see ObjectTypeDeterminer#getKeyClass(Class, String)
      */
     public Class getKeyClass(Class parentClass, String property) {
-        Key annotation = getAnnotation(parentClass, property, Key.class);
-        if (annotation != null) {
-            return annotation.value();
+        PropertyTypes types = getPropertyTypes(parentClass, property);
+        if (types.key() != null) {
+            return types.key().value();
         }
         Class clazz = (Class) xworkConverter.getConverter(parentClass, KEY_PREFIX + property);
         if (clazz != null) {
             return clazz;
         }
-        return getClass(parentClass, property, false);
+        return types.genericKeyClass();
     }
 
     /**
@@ -109,9 +129,9 @@ public class DefaultObjectTypeDeterminer implements ObjectTypeDeterminer {
      * @see ObjectTypeDeterminer#getElementClass(Class, String, Object)
      */
     public Class getElementClass(Class parentClass, String property, Object key) {
-        Element annotation = getAnnotation(parentClass, property, Element.class);
-        if (annotation != null) {
-            return annotation.value();
+        PropertyTypes types = getPropertyTypes(parentClass, property);
+        if (types.element() != null) {
+            return types.element().value();
         }
         Class clazz = (Class) xworkConverter.getConverter(parentClass, ELEMENT_PREFIX + property);
         if (clazz == null) {
@@ -123,8 +143,7 @@ public class DefaultObjectTypeDeterminer implements ObjectTypeDeterminer {
         if (clazz != null) {
             return clazz;
         }
-        clazz = getClass(parentClass, property, true);
-        return clazz;
+        return types.genericElementClass();
     }
 
     /**
@@ -138,7 +157,7 @@ public class DefaultObjectTypeDeterminer implements ObjectTypeDeterminer {
      * @see ObjectTypeDeterminer#getKeyProperty(Class, String)
      */
     public String getKeyProperty(Class parentClass, String property) {
-        KeyProperty annotation = getAnnotation(parentClass, property, KeyProperty.class);
+        KeyProperty annotation = getPropertyTypes(parentClass, property).keyProperty();
         if (annotation != null) {
             return annotation.value();
         }
@@ -160,7 +179,7 @@ public class DefaultObjectTypeDeterminer implements ObjectTypeDeterminer {
      * @see ObjectTypeDeterminer#getKeyProperty(Class, String)
      */
     public boolean shouldCreateIfNew(Class parentClass, String property, Object target, String keyProperty, boolean isIndexAccessed) {
-        CreateIfNull annotation = getAnnotation(parentClass, property, CreateIfNull.class);
+        CreateIfNull annotation = getPropertyTypes(parentClass, property).createIfNull();
         if (annotation != null) {
             return annotation.value();
         }
@@ -176,6 +195,34 @@ public class DefaultObjectTypeDeterminer implements ObjectTypeDeterminer {
         return (target instanceof Map) || isIndexAccessed;
     }
 
+    /**
+     * Returns the reflective metadata of the property, resolved once and memoized per class and property.
+     *
+     * @param parentClass the Class which contains as a property the Map or Collection
+     * @param property    the property of the Map or Collection for the given parent class
+     * @return the annotations and generic types of the property, never null
+     * @since 7.1.1
+     */
+    protected PropertyTypes getPropertyTypes(Class<?> parentClass, String property) {
+        if (parentClass == null || property == null) {
+            return resolvePropertyTypes(parentClass, property);
+        }
+        return propertyTypes
+                .computeIfAbsent(parentClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(property, key -> resolvePropertyTypes(parentClass, key));
+    }
+
+    private PropertyTypes resolvePropertyTypes(Class<?> parentClass, String property) {
+        return new PropertyTypes(
+                getAnnotation(parentClass, property, Key.class),
+                getAnnotation(parentClass, property, Element.class),
+                getAnnotation(parentClass, property, KeyProperty.class),
+                getAnnotation(parentClass, property, CreateIfNull.class),
+                getClass(parentClass, property, false),
+                getClass(parentClass, property, true)
+        );
+    }
+
     /**
      * Retrieves an annotation for the specified property of field, setter or getter.
      *
@@ -23,6 +23,7 @@ import org.apache.struts2.locale.LocaleProviderFactory;
 import org.apache.struts2.conversion.TypeConverter;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.OgnlTypeConverterWrapper;
 import org.apache.struts2.ognl.XWorkTypeConverterWrapper;
 import ognl.OgnlContext;
 
@@ -30,8 +31,11 @@ import java.lang.reflect.Array;
 import java.lang.reflect.Member;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Default type conversion. Converts among numeric types and also strings.  Contains the basic
@@ -46,6 +50,8 @@ public abstract class DefaultTypeConverter implements TypeConverter {
 
     private static final String NULL_STRING = "null";
 
+    private static final Set<Locale> AVAILABLE_LOCALES = Set.copyOf(new HashSet<>(Arrays.asList(Locale.getAvailableLocales())));
+
     private static final Map<Class<?>, Object> baseTypeDefaults = Map.of(
             Boolean.TYPE, Boolean.FALSE,
             Byte.TYPE, (byte) 0,
@@ -85,6 +91,9 @@ public abstract class DefaultTypeConverter implements TypeConverter {
         if (converter != null) {
             if (converter instanceof TypeConverter) {
                 return (TypeConverter) converter;
+            } else if (converter instanceof OgnlTypeConverterWrapper wrapper) {
+                // unwrap instead of wrapping again, which also allows to recognise the actual converter
+                return wrapper.getTarget();
             } else {
                 return new XWorkTypeConverterWrapper(converter);
             }
@@ -322,4 +331,15 @@ public abstract class DefaultTypeConverter implements TypeConverter {
         return locale;
     }
 
+    /**
+     * Request locales are chosen by the client, so data derived from them should only be cached for the fixed
+     * set of locales supported by the JDK.
+     *
+     * @param locale the locale
+     * @return true if the locale is one of {@link Locale#getAvailableLocales()}
+     */
+    static boolean isAvailableLocale(Locale locale) {
+        return AVAILABLE_LOCALES.contains(locale);
+    }
+
 }
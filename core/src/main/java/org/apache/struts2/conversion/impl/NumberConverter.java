@@ -30,11 +30,29 @@ import java.text.NumberFormat;
 import java.text.ParsePosition;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class NumberConverter extends DefaultTypeConverter {
 
     private static final Logger LOG = LogManager.getLogger(NumberConverter.class);
 
+    private static final Map<Class<?>, long[]> INTEGRAL_RANGES = Map.of(
+            byte.class, new long[]{Byte.MIN_VALUE, Byte.MAX_VALUE},
+            Byte.class, new long[]{Byte.MIN_VALUE, Byte.MAX_VALUE},
+            short.class, new long[]{Short.MIN_VALUE, Short.MAX_VALUE},
+            Short.class, new long[]{Short.MIN_VALUE, Short.MAX_VALUE},
+            int.class, new long[]{Integer.MIN_VALUE, Integer.MAX_VALUE},
+            Integer.class, new long[]{Integer.MIN_VALUE, Integer.MAX_VALUE},
+            long.class, new long[]{Long.MIN_VALUE, Long.MAX_VALUE},
+            Long.class, new long[]{Long.MIN_VALUE, Long.MAX_VALUE});
+
+    /**
+     * Formats aren't thread-safe, so the ones created per locale are kept as prototypes and cloned before use,
+     * which is much cheaper than looking them up again for each converted value. Only locales available in the JDK
+     * are kept, so the map is bounded.
+     */
+    private final Map<Locale, NumberFormat> numberFormats = new ConcurrentHashMap<>();
+
     public Object convertValue(Map<String, Object> context, Object target, Member member, String propertyName, Object value, Class toType) {
         if (value instanceof String) {
             String stringValue = String.valueOf(value);
@@ -58,7 +76,7 @@ public class NumberConverter extends DefaultTypeConverter {
                 if (stringValue.isEmpty()) {
                     return null;
                 }
-                NumberFormat numFormat = NumberFormat.getInstance(getLocale(context));
+                NumberFormat numFormat = numberFormat(getLocale(context));
                 ParsePosition parsePos = new ParsePosition(0);
                 if (isIntegerType(toType)) {
                     numFormat.setParseIntegerOnly(true);
@@ -165,11 +183,18 @@ public class NumberConverter extends DefaultTypeConverter {
     }
 
     protected NumberFormat getNumberFormat(Locale locale) {
-        NumberFormat format = NumberFormat.getNumberInstance(locale);
+        NumberFormat format = numberFormat(locale);
         format.setGroupingUsed(true);
         return format;
     }
 
+    private NumberFormat numberFormat(Locale locale) {
+        if (!isAvailableLocale(locale)) {
+            return NumberFormat.getNumberInstance(locale);
+        }
+        return (NumberFormat) numberFormats.computeIfAbsent(locale, NumberFormat::getNumberInstance).clone();
+    }
+
     protected String normalize(String strValue, char separator) {
         // this is a hack as \160 isn't the same as " " (an empty space)
         if (separator == 160) {
@@ -179,6 +204,12 @@ public class NumberConverter extends DefaultTypeConverter {
     }
 
     protected boolean isInRange(Number value, String stringValue, Class toType) {
+        long[] range = INTEGRAL_RANGES.get(toType);
+        if (range != null && isPlainInteger(stringValue)) {
+            long longValue = Long.parseLong(stringValue);
+            return longValue >= range[0] && longValue <= range[1];
+        }
+
         Number bigValue;
         Number lowerBound;
         Number upperBound;
@@ -225,6 +256,25 @@ public class NumberConverter extends DefaultTypeConverter {
         return ((Comparable) bigValue).compareTo(lowerBound) >= 0 && ((Comparable) bigValue).compareTo(upperBound) <= 0;
     }
 
+    /**
+     * Checks if the value is an integer which always fits into a long, so the range can be checked
+     * without creating a {@link BigInteger}
+     */
+    private boolean isPlainInteger(String value) {
+        int length = value.length();
+        int start = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        if (length == start || length - start > 18) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private boolean isIntegerType(Class type) {
         return double.class != type && float.class != type && Double.class != type && Float.class != type
                 && char.class != type && Character.class != type;
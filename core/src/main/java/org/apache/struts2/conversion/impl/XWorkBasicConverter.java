@@ -24,7 +24,9 @@ import org.apache.struts2.inject.Inject;
 import org.apache.struts2.StrutsConstants;
 import org.apache.struts2.conversion.TypeConversionException;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Member;
+import java.text.DecimalFormatSymbols;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -32,7 +34,9 @@ import java.time.OffsetDateTime;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
@@ -67,11 +71,32 @@ import java.util.Map;
  */
 public class XWorkBasicConverter extends DefaultTypeConverter {
 
+    /**
+     * Kind of conversion selected for a target type, resolved once per type
+     */
+    private enum Conversion {
+        STRING, BOOLEAN, ARRAY, DATE, CALENDAR, COLLECTION, CHARACTER, NUMBER, CLASS, NONE
+    }
+
+    private final Map<Class<?>, Conversion> conversions = new ConcurrentHashMap<>();
+    private final Map<Locale, Boolean> plainDecimalLocales = new ConcurrentHashMap<>();
+
     private Container container;
 
+    private TypeConverter collectionConverter;
+    private TypeConverter arrayConverter;
+    private TypeConverter dateConverter;
+    private TypeConverter numberConverter;
+    private TypeConverter stringConverter;
+
     @Inject
     public void setContainer(Container container) {
         this.container = container;
+        this.collectionConverter = null;
+        this.arrayConverter = null;
+        this.dateConverter = null;
+        this.numberConverter = null;
+        this.stringConverter = null;
     }
 
     @Override
@@ -83,46 +108,19 @@ public class XWorkBasicConverter extends DefaultTypeConverter {
             return value;
         }
 
-        if (toType == String.class) {
-            /* the code below has been disabled as it causes sideffects in Struts2 (XW-512)
-            // if input (value) is a number then use special conversion method (XW-490)
-            Class inputType = value.getClass();
-            if (Number.class.isAssignableFrom(inputType)) {
-                result = doConvertFromNumberToString(context, value, inputType);
-                if (result != null) {
-                    return result;
-                }
-            }*/
-            // okay use default string conversion
-            result = doConvertToString(context, value);
-        } else if (toType == boolean.class) {
-            result = doConvertToBoolean(value);
-        } else if (toType == Boolean.class) {
-            result = doConvertToBoolean(value);
-        } else if (toType.isArray()) {
-            result = doConvertToArray(context, o, member, propertyName, value, toType);
-        } else if (Date.class.isAssignableFrom(toType)) {
-            result = doConvertToDate(context, value, toType);
-        } else if (LocalDate.class.isAssignableFrom(toType)) {
-            result = doConvertToDate(context, value, toType);
-        } else if (LocalDateTime.class.isAssignableFrom(toType)) {
-            result = doConvertToDate(context, value, toType);
-        } else if (LocalTime.class.isAssignableFrom(toType)) {
-            result = doConvertToDate(context, value, toType);
-        } else if (OffsetDateTime.class.isAssignableFrom(toType)) {
-            result = doConvertToDate(context, value, toType);
-        } else if (Calendar.class.isAssignableFrom(toType)) {
-            result = doConvertToCalendar(context, value);
-        } else if (Collection.class.isAssignableFrom(toType)) {
-            result = doConvertToCollection(context, o, member, propertyName, value, toType);
-        } else if (toType == Character.class) {
-            result = doConvertToCharacter(value);
-        } else if (toType == char.class) {
-            result = doConvertToCharacter(value);
-        } else if (Number.class.isAssignableFrom(toType) || toType.isPrimitive()) {
-            result = doConvertToNumber(context, value, toType);
-        } else if (toType == Class.class) {
-            result = doConvertToClass(value);
+        switch (conversionOf(toType)) {
+            // special conversion of numbers (XW-490) is disabled as it causes sideffects in Struts2 (XW-512)
+            case STRING -> result = doConvertToString(context, value);
+            case BOOLEAN -> result = doConvertToBoolean(value);
+            case ARRAY -> result = doConvertToArray(context, o, member, propertyName, value, toType);
+            case DATE -> result = doConvertToDate(context, value, toType);
+            case CALENDAR -> result = doConvertToCalendar(context, value);
+            case COLLECTION -> result = doConvertToCollection(context, o, member, propertyName, value, toType);
+            case CHARACTER -> result = doConvertToCharacter(value);
+            case NUMBER -> result = doConvertToNumber(context, value, toType);
+            case CLASS -> result = doConvertToClass(value);
+            case NONE -> {
+            }
         }
 
         if (result == null) {
@@ -186,7 +184,10 @@ public class XWorkBasicConverter extends DefaultTypeConverter {
     }
 
     private Object doConvertToCollection(Map<String, Object> context, Object o, Member member, String prop, Object value, Class toType) {
-        TypeConverter converter = container.getInstance(CollectionConverter.class);
+        TypeConverter converter = collectionConverter;
+        if (converter == null) {
+            converter = collectionConverter = container.getInstance(CollectionConverter.class);
+        }
         if (converter == null) {
             throw new TypeConversionException("TypeConverter with name [#0] must be registered first! Converter: "+ StrutsConstants.STRUTS_CONVERTER_COLLECTION);
         }
@@ -194,15 +195,197 @@ public class XWorkBasicConverter extends DefaultTypeConverter {
     }
 
     private Object doConvertToArray(Map<String, Object> context, Object o, Member member, String prop, Object value, Class toType) {
-        TypeConverter converter = container.getInstance(ArrayConverter.class);
+        Object primitiveArray = doConvertToPrimitiveArray(context, value, toType.getComponentType());
+        if (primitiveArray != null) {
+            return primitiveArray;
+        }
+        TypeConverter converter = arrayConverter;
+        if (converter == null) {
+            converter = arrayConverter = container.getInstance(ArrayConverter.class);
+        }
         if (converter == null) {
             throw new TypeConversionException("TypeConverter with name [#0] must be registered first! Converter: "+ StrutsConstants.STRUTS_CONVERTER_ARRAY);
         }
         return converter.convertValue(context, o, member, prop, value, toType);
     }
 
+    private Conversion conversionOf(Class<?> toType) {
+        return conversions.computeIfAbsent(toType, this::resolveConversion);
+    }
+
+    private Conversion resolveConversion(Class<?> toType) {
+        if (toType == String.class) {
+            return Conversion.STRING;
+        } else if (toType == boolean.class || toType == Boolean.class) {
+            return Conversion.BOOLEAN;
+        } else if (toType.isArray()) {
+            return Conversion.ARRAY;
+        } else if (Date.class.isAssignableFrom(toType)
+                || LocalDate.class.isAssignableFrom(toType)
+                || LocalDateTime.class.isAssignableFrom(toType)
+                || LocalTime.class.isAssignableFrom(toType)
+                || OffsetDateTime.class.isAssignableFrom(toType)) {
+            return Conversion.DATE;
+        } else if (Calendar.class.isAssignableFrom(toType)) {
+            return Conversion.CALENDAR;
+        } else if (Collection.class.isAssignableFrom(toType)) {
+            return Conversion.COLLECTION;
+        } else if (toType == Character.class || toType == char.class) {
+            return Conversion.CHARACTER;
+        } else if (Number.class.isAssignableFrom(toType) || toType.isPrimitive()) {
+            return Conversion.NUMBER;
+        } else if (toType == Class.class) {
+            return Conversion.CLASS;
+        }
+        return Conversion.NONE;
+    }
+
+    /**
+     * Converts request parameters directly into an array of primitives, without boxing each element and without
+     * going through {@link XWorkConverter} for every item. It's used only when the elements would be converted
+     * by this converter and the default {@link NumberConverter} anyway and when every element is a plain decimal
+     * number, otherwise null is returned and the array is converted item by item by {@link ArrayConverter}
+     * which also reports the conversion errors.
+     */
+    private Object doConvertToPrimitiveArray(Map<String, Object> context, Object value, Class<?> componentType) {
+        if (!componentType.isPrimitive() || componentType == char.class) {
+            return null;
+        }
+        String[] values;
+        if (value instanceof String[] strings) {
+            values = strings;
+        } else if (value instanceof String string) {
+            values = new String[]{string};
+        } else {
+            return null;
+        }
+        if (!(getTypeConverter(context) instanceof XWorkConverter xworkConverter) || xworkConverter.lookup(componentType) != this) {
+            return null;
+        }
+        if (componentType == boolean.class) {
+            boolean[] result = new boolean[values.length];
+            for (int i = 0; i < values.length; i++) {
+                result[i] = Boolean.parseBoolean(values[i]);
+            }
+            return result;
+        }
+
+        if (numberConverter == null) {
+            numberConverter = container.getInstance(NumberConverter.class);
+        }
+        if (numberConverter == null || numberConverter.getClass() != NumberConverter.class) {
+            return null;
+        }
+        if (componentType == double.class || componentType == float.class) {
+            return toDecimalArray(values, componentType, getLocale(context));
+        }
+        return toIntegralArray(values, componentType);
+    }
+
+    private Object toIntegralArray(String[] values, Class<?> componentType) {
+        long min;
+        long max;
+        if (componentType == int.class) {
+            min = Integer.MIN_VALUE;
+            max = Integer.MAX_VALUE;
+        } else if (componentType == long.class) {
+            min = Long.MIN_VALUE;
+            max = Long.MAX_VALUE;
+        } else if (componentType == short.class) {
+            min = Short.MIN_VALUE;
+            max = Short.MAX_VALUE;
+        } else {
+            min = Byte.MIN_VALUE;
+            max = Byte.MAX_VALUE;
+        }
+
+        long[] parsed = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (!isPlainNumber(values[i], false)) {
+                return null;
+            }
+            parsed[i] = Long.parseLong(values[i]);
+            if (parsed[i] < min || parsed[i] > max) {
+                return null;
+            }
+        }
+
+        if (componentType == long.class) {
+            return parsed;
+        }
+        Object result = Array.newInstance(componentType, values.length);
+        for (int i = 0; i < parsed.length; i++) {
+            if (componentType == int.class) {
+                ((int[]) result)[i] = (int) parsed[i];
+            } else if (componentType == short.class) {
+                ((short[]) result)[i] = (short) parsed[i];
+            } else {
+                ((byte[]) result)[i] = (byte) parsed[i];
+            }
+        }
+        return result;
+    }
+
+    private Object toDecimalArray(String[] values, Class<?> componentType, Locale locale) {
+        if (!usesPlainDecimals(locale)) {
+            return null;
+        }
+        double[] parsed = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (!isPlainNumber(values[i], true)) {
+                return null;
+            }
+            parsed[i] = Double.parseDouble(values[i]);
+        }
+        if (componentType == double.class) {
+            return parsed;
+        }
+        float[] result = new float[parsed.length];
+        for (int i = 0; i < parsed.length; i++) {
+            result[i] = (float) parsed[i];
+        }
+        return result;
+    }
+
+    /**
+     * Checks if numbers formatted for the locale use '-' as a minus sign and '.' as a decimal separator,
+     * so that plain decimal numbers are parsed the same way by {@link Double#parseDouble(String)}
+     * and by {@link NumberConverter}
+     */
+    private boolean usesPlainDecimals(Locale locale) {
+        return plainDecimalLocales.computeIfAbsent(locale, key -> {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(key);
+            return symbols.getMinusSign() == '-' && symbols.getDecimalSeparator() == '.' && symbols.getZeroDigit() == '0';
+        });
+    }
+
+    /**
+     * Matches an optional minus sign followed by at most 17 digits and, if allowed, a single decimal point
+     * in between the digits, such number fits into a long and is exactly parsed by {@link Double#parseDouble(String)}
+     */
+    private static boolean isPlainNumber(String value, boolean allowDecimalPoint) {
+        int length = value.length();
+        int start = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+        if (length == start || length - start > 17) {
+            return false;
+        }
+        boolean decimalPoint = false;
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.' && allowDecimalPoint && !decimalPoint && i > start && i < length - 1) {
+                decimalPoint = true;
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Object doConvertToDate(Map<String, Object> context, Object value, Class toType) {
-        TypeConverter converter = container.getInstance(DateConverter.class);
+        TypeConverter converter = dateConverter;
+        if (converter == null) {
+            converter = dateConverter = container.getInstance(DateConverter.class);
+        }
         if (converter == null) {
             throw new TypeConversionException("TypeConverter with name [#0] must be registered first! Converter: "+ StrutsConstants.STRUTS_CONVERTER_DATE);
         }
@@ -210,7 +393,10 @@ public class XWorkBasicConverter extends DefaultTypeConverter {
     }
 
     private Object doConvertToNumber(Map<String, Object> context, Object value, Class toType) {
-        TypeConverter converter = container.getInstance(NumberConverter.class);
+        TypeConverter converter = numberConverter;
+        if (converter == null) {
+            converter = numberConverter = container.getInstance(NumberConverter.class);
+        }
         if (converter == null) {
             throw new TypeConversionException("TypeConverter with name [#0] must be registered first! Converter: "+ StrutsConstants.STRUTS_CONVERTER_NUMBER);
         }
@@ -218,7 +404,10 @@ public class XWorkBasicConverter extends DefaultTypeConverter {
     }
 
     private Object doConvertToString(Map<String, Object> context, Object value) {
-        TypeConverter converter = container.getInstance(StringConverter.class);
+        TypeConverter converter = stringConverter;
+        if (converter == null) {
+            converter = stringConverter = container.getInstance(StringConverter.class);
+        }
         if (converter == null) {
             throw new TypeConversionException("TypeConverter with name [#0] must be registered first! Converter: "+ StrutsConstants.STRUTS_CONVERTER_STRING);
         }
@@ -45,6 +45,7 @@ import java.lang.reflect.Method;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -411,32 +412,35 @@ public class XWorkConverter extends DefaultTypeConverter {
         return result;
     }
 
+    /**
+     * Looks up the converter of the property in the per-class mapping, the mapping is built once and published
+     * as an immutable map, so no lock is needed to read it. In devMode it's rebuilt and swapped when
+     * the conversion properties file changes.
+     */
     protected Object getConverter(Class clazz, String property) {
         LOG.debug("Retrieving convert for class [{}] and property [{}]", clazz, property);
 
-        synchronized (clazz) {
-            if ((property != null) && !converterHolder.containsNoMapping(clazz)) {
-                try {
-                    Map<String, Object> mapping = converterHolder.getMapping(clazz);
+        if ((property != null) && !converterHolder.containsNoMapping(clazz)) {
+            try {
+                Map<String, Object> mapping = converterHolder.getMapping(clazz);
 
-                    if (mapping == null) {
-                        mapping = buildConverterMapping(clazz);
-                    } else {
-                        mapping = conditionalReload(clazz, mapping);
-                    }
+                if (mapping == null) {
+                    mapping = buildConverterMapping(clazz);
+                } else {
+                    mapping = conditionalReload(clazz, mapping);
+                }
 
-                    Object converter = mapping.get(property);
-                    if (converter == null && LOG.isDebugEnabled()) {
-                        LOG.debug("Converter is null for property [{}]. Mapping size [{}]:", property, mapping.size());
-                        for (Map.Entry<String, Object> entry : mapping.entrySet()) {
-                            LOG.debug("{}:{}", entry.getKey(), entry.getValue());
-                        }
+                Object converter = mapping.get(property);
+                if (converter == null && LOG.isDebugEnabled()) {
+                    LOG.debug("Converter is null for property [{}]. Mapping size [{}]:", property, mapping.size());
+                    for (Map.Entry<String, Object> entry : mapping.entrySet()) {
+                        LOG.debug("{}:{}", entry.getKey(), entry.getValue());
                     }
-                    return converter;
-                } catch (Throwable t) {
-                    LOG.debug("Got exception trying to resolve convert for class [{}] and property [{}]", clazz, property, t);
-                    converterHolder.addNoMapping(clazz);
                 }
+                return converter;
+            } catch (Throwable t) {
+                LOG.debug("Got exception trying to resolve convert for class [{}] and property [{}]", clazz, property, t);
+                converterHolder.addNoMapping(clazz);
             }
         }
         return null;
@@ -545,7 +549,7 @@ public class XWorkConverter extends DefaultTypeConverter {
      * hierarchy.
      *
      * @param clazz the class to look for converter mappings for
-     * @return the converter mappings
+     * @return the converter mappings, an unmodifiable map
      * @throws Exception in case of any errors
      */
     protected Map<String, Object> buildConverterMapping(Class clazz) throws Exception {
@@ -568,13 +572,15 @@ public class XWorkConverter extends DefaultTypeConverter {
             curClazz = curClazz.getSuperclass();
         }
 
-        if (!mapping.isEmpty()) {
-            converterHolder.addMapping(clazz, mapping);
+        // the mapping isn't modified anymore and is safely published by the holder
+        Map<String, Object> result = Collections.unmodifiableMap(mapping);
+        if (!result.isEmpty()) {
+            converterHolder.addMapping(clazz, result);
         } else {
             converterHolder.addNoMapping(clazz);
         }
 
-        return mapping;
+        return result;
     }
 
     private Map<String, Object> conditionalReload(Class clazz, Map<String, Object> oldValues) throws Exception {
@@ -19,6 +19,9 @@
 package org.apache.struts2.dispatcher;
 
 import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlCacheFactory;
 import org.apache.struts2.util.ClassLoaderUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,18 +31,23 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.StrutsConstants;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * <p>
@@ -107,6 +115,26 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
 
     protected boolean devMode;
 
+    /**
+     * Store state of StrutsConstants.STRUTS_SERVE_STATIC_CACHE setting.
+     */
+    protected boolean cacheStatic = true;
+
+    /**
+     * Resources larger than this are streamed on each request instead of being cached.
+     */
+    protected int maxCachedResourceSize = 1024 * 1024;
+
+    /**
+     * Store state of StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_SIZE setting.
+     */
+    protected int maxCachedResources = 256;
+
+    /**
+     * Static resources found so far, keyed by the decoded classpath location they were loaded from
+     */
+    protected OgnlCache<String, StaticResource> cachedResources = buildResourceCache(maxCachedResources);
+
     /**
      * Modify state of StrutsConstants.STRUTS_SERVE_STATIC_CONTENT setting.
      *
@@ -148,6 +176,32 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
         this.devMode = Boolean.parseBoolean(devMode);
     }
 
+    /**
+     * Modify state of StrutsConstants.STRUTS_SERVE_STATIC_CACHE setting.
+     *
+     * @param cacheStatic New setting
+     */
+    @Inject(value = StrutsConstants.STRUTS_SERVE_STATIC_CACHE, required = false)
+    public void setCacheStatic(String cacheStatic) {
+        this.cacheStatic = BooleanUtils.toBoolean(cacheStatic);
+    }
+
+    /**
+     * Modify state of StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_SIZE setting, 0 disables the cache.
+     *
+     * @param maxCachedResources New setting
+     * @since 7.1.1
+     */
+    @Inject(value = StrutsConstants.STRUTS_SERVE_STATIC_CACHE_MAX_SIZE, required = false)
+    public void setMaxCachedResources(String maxCachedResources) {
+        this.maxCachedResources = Integer.parseInt(maxCachedResources);
+        this.cachedResources = buildResourceCache(this.maxCachedResources);
+    }
+
+    private static OgnlCache<String, StaticResource> buildResourceCache(int maxSize) {
+        return new DefaultOgnlCacheFactory<String, StaticResource>(Math.max(maxSize, 0), OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -209,14 +263,25 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
     public void findStaticResource(String path, HttpServletRequest request, HttpServletResponse response)
         throws IOException {
         String name = cleanupPath(path);
+        boolean cacheEnabled = cacheStatic && !devMode && maxCachedResources > 0;
+        if (cacheEnabled) {
+            // keys are decoded classpath locations, so every spelling of a request shares one entry
+            for (String pathPrefix : pathPrefixes) {
+                StaticResource resource = cachedResources.get(buildPath(name, pathPrefix));
+                if (resource != null) {
+                    process(resource, path, request, response);
+                    return;
+                }
+            }
+        }
         for (String pathPrefix : pathPrefixes) {
-            URL resourceUrl = findResource(buildPath(name, pathPrefix));
+            String resourcePath = buildPath(name, pathPrefix);
+            URL resourceUrl = findResource(resourcePath);
             if (resourceUrl != null) {
                 InputStream is = null;
                 try {
                     //check that the resource path is under the pathPrefix path
-                    String pathEnding = buildPath(name, pathPrefix);
-                    if (resourceUrl.getFile().endsWith(pathEnding))
+                    if (resourceUrl.getFile().endsWith(resourcePath))
                         is = resourceUrl.openStream();
                 } catch (IOException ex) {
                     // just ignore it
@@ -225,6 +290,20 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
 
                 //not inside the try block, as this could throw IOExceptions also
                 if (is != null) {
+                    if (cacheEnabled) {
+                        byte[] head;
+                        try (InputStream in = is) {
+                            head = in.readNBytes(maxCachedResourceSize + 1);
+                            if (head.length <= maxCachedResourceSize) {
+                                StaticResource resource = createStaticResource(path, head);
+                                cachedResources.putIfAbsent(resourcePath, resource);
+                                process(resource, path, request, response);
+                                return;
+                            }
+                        }
+                        // too large to be cached, stream it again
+                        is = resourceUrl.openStream();
+                    }
                     process(is, path, request, response);
                     return;
                 }
@@ -244,52 +323,183 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
 
     protected void process(InputStream is, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
         if (is != null) {
-            Calendar cal = Calendar.getInstance();
-
-            // check for if-modified-since, prior to any other headers
-            long ifModifiedSince = 0;
-            try {
-                ifModifiedSince = request.getDateHeader("If-Modified-Since");
-            } catch (Exception e) {
-                LOG.warn("Invalid If-Modified-Since header value: '{}', ignoring", request.getHeader("If-Modified-Since"));
-            }
-            long lastModifiedMillis = lastModifiedCal.getTimeInMillis();
-            long now = cal.getTimeInMillis();
-            cal.add(Calendar.DAY_OF_MONTH, 1);
-            long expires = cal.getTimeInMillis();
-
-            if (ifModifiedSince > 0 && ifModifiedSince <= lastModifiedMillis) {
-                // not modified, content is not sent - only basic
-                // headers and status SC_NOT_MODIFIED
-                response.setDateHeader("Expires", expires);
-                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            if (isNotModifiedSince(request, response)) {
                 is.close();
                 return;
             }
 
-            // set the content-type header
-            String contentType = getContentType(path);
-            if (contentType != null) {
-                response.setContentType(contentType);
+            setResponseHeaders(path, response);
+
+            try (is) {
+                copy(is, response.getOutputStream());
             }
+        }
+    }
 
+    /**
+     * Sends a cached resource, the gzip compressed variant is sent when accepted by the client together with
+     * its own ETag
+     *
+     * @param resource the cached resource
+     * @param path     requested path
+     * @param request  current request
+     * @param response current response
+     * @throws IOException If anything goes wrong
+     * @since 7.1.1
+     */
+    protected void process(StaticResource resource, String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = resource.gzipContent() != null && acceptsGzip(request.getHeader("Accept-Encoding"));
+        String etag = gzip ? resource.gzipEtag() : resource.etag();
+        response.setHeader("ETag", etag);
+        if (resource.gzipContent() != null) {
+            response.setHeader("Vary", "Accept-Encoding");
+        }
+        if (matchesEtag(request.getHeader("If-None-Match"), etag)) {
             if (serveStaticBrowserCache) {
-                // set heading information for caching static content
-                response.setDateHeader("Date", now);
-                response.setDateHeader("Expires", expires);
-                response.setDateHeader("Retry-After", expires);
-                response.setHeader("Cache-Control", "public");
-                response.setDateHeader("Last-Modified", lastModifiedMillis);
-            } else {
-                response.setHeader("Cache-Control", "no-cache");
-                response.setHeader("Pragma", "no-cache");
-                response.setHeader("Expires", "-1");
+                response.setDateHeader("Expires", expiresMillis());
             }
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        if (isNotModifiedSince(request, response)) {
+            return;
+        }
 
-            try (is) {
-                copy(is, response.getOutputStream());
+        setResponseHeaders(path, response);
+
+        byte[] content = resource.content();
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+            content = resource.gzipContent();
+        }
+        response.setContentLength(content.length);
+        OutputStream output = response.getOutputStream();
+        output.write(content);
+        output.flush();
+    }
+
+    /**
+     * Checks the "If-Modified-Since" header and sends "304 Not Modified" if the content wasn't modified
+     *
+     * @return true if "304 Not Modified" was sent
+     */
+    protected boolean isNotModifiedSince(HttpServletRequest request, HttpServletResponse response) {
+        // check for if-modified-since, prior to any other headers
+        long ifModifiedSince = 0;
+        try {
+            ifModifiedSince = request.getDateHeader("If-Modified-Since");
+        } catch (Exception e) {
+            LOG.warn("Invalid If-Modified-Since header value: '{}', ignoring", request.getHeader("If-Modified-Since"));
+        }
+        long lastModifiedMillis = lastModifiedCal.getTimeInMillis();
+
+        if (ifModifiedSince > 0 && ifModifiedSince <= lastModifiedMillis) {
+            // not modified, content is not sent - only basic
+            // headers and status SC_NOT_MODIFIED
+            response.setDateHeader("Expires", expiresMillis());
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sets content type and caching headers of static content
+     */
+    protected void setResponseHeaders(String path, HttpServletResponse response) {
+        // set the content-type header
+        String contentType = getContentType(path);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+
+        if (serveStaticBrowserCache) {
+            long expires = expiresMillis();
+            // set heading information for caching static content
+            response.setDateHeader("Date", System.currentTimeMillis());
+            response.setDateHeader("Expires", expires);
+            response.setDateHeader("Retry-After", expires);
+            response.setHeader("Cache-Control", "public");
+            response.setDateHeader("Last-Modified", lastModifiedCal.getTimeInMillis());
+        } else {
+            response.setHeader("Cache-Control", "no-cache");
+            response.setHeader("Pragma", "no-cache");
+            response.setHeader("Expires", "-1");
+        }
+    }
+
+    private long expiresMillis() {
+        Calendar cal = Calendar.getInstance();
+        cal.add(Calendar.DAY_OF_MONTH, 1);
+        return cal.getTimeInMillis();
+    }
+
+    /**
+     * Creates a cached resource with a strong ETag computed from the content and a gzip compressed variant
+     * of textual content when it is noticeably smaller, the compressed variant gets its own ETag suffixed with "-gzip"
+     *
+     * @param path    requested path
+     * @param content content of the resource
+     * @return the resource to cache
+     * @throws IOException If compressing fails
+     * @since 7.1.1
+     */
+    protected StaticResource createStaticResource(String path, byte[] content) throws IOException {
+        String tag;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            tag = HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+
+        byte[] gzipContent = null;
+        String contentType = getContentType(path);
+        if (contentType != null && contentType.startsWith("text/")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(content.length / 2 + 32);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(content);
+            }
+            if (compressed.size() < content.length * 0.9) {
+                gzipContent = compressed.toByteArray();
+            }
+        }
+        LOG.debug("Caching static resource [{}] of {} bytes, gzip variant: {} bytes", path, content.length,
+                gzipContent != null ? gzipContent.length : "none");
+        return new StaticResource(content, gzipContent, "\"" + tag + "\"", "\"" + tag + "-gzip\"");
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
             }
         }
+        return false;
+    }
+
+    private boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].replace(" ", "");
+                    if (param.startsWith("q=") && StringUtils.stripEnd(param.substring(2), "0.").isEmpty()) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -380,4 +590,16 @@ public class DefaultStaticContentLoader implements StaticContentLoader {
             return path;
         }
     }
+
+    /**
+     * Static resource kept in memory
+     *
+     * @param content     content of the resource
+     * @param gzipContent gzip compressed content or null if the resource isn't compressed
+     * @param etag        strong ETag of the content
+     * @param gzipEtag    strong ETag of the gzip compressed content
+     * @since 7.1.1
+     */
+    protected record StaticResource(byte[] content, byte[] gzipContent, String etag, String gzipEtag) {
+    }
 }
@@ -64,6 +64,7 @@ import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.ContainerBuilder;
 import org.apache.struts2.inject.Inject;
+import org.apache.struts2.instrumentation.RequestInstrumentation;
 import org.apache.struts2.interceptor.Interceptor;
 import org.apache.struts2.ognl.ThreadAllowlist;
 import org.apache.struts2.result.Result;
@@ -209,6 +210,7 @@ public class Dispatcher {
     private StaticContentLoader staticContentLoader;
     private ActionMapper actionMapper;
     private ThreadAllowlist threadAllowlist;
+    private RequestInstrumentation requestInstrumentation;
 
     /**
      * Provide the dispatcher instance for the current thread.
@@ -395,6 +397,19 @@ public class Dispatcher {
         this.errorHandler = errorHandler;
     }
 
+    /**
+     * The Dispatcher is injected again after a configuration reload, the replaced instrumentation is destroyed
+     * to release what it holds, e.g. its MBean or exporter threads.
+     */
+    @Inject(required = false)
+    public void setRequestInstrumentation(RequestInstrumentation requestInstrumentation) {
+        RequestInstrumentation previous = this.requestInstrumentation;
+        this.requestInstrumentation = requestInstrumentation;
+        if (previous != null && previous != requestInstrumentation) {
+            previous.destroy();
+        }
+    }
+
     @Inject
     public void setObjectFactory(ObjectFactory objectFactory) {
         this.objectFactory = objectFactory;
@@ -454,6 +469,10 @@ public class Dispatcher {
             }
         }
 
+        if (requestInstrumentation != null) {
+            requestInstrumentation.destroy();
+        }
+
         // clean up Dispatcher itself for this thread
         instance.remove();
         servletContext.setAttribute(StrutsStatics.SERVLET_DISPATCHER, null);
@@ -686,56 +705,62 @@ public class Dispatcher {
     public void serviceAction(HttpServletRequest request, HttpServletResponse response, ActionMapping mapping)
         throws ServletException {
 
-        Map<String, Object> extraContext = createContextMap(request, response, mapping);
-
-        // If there was a previous value stack, then create a new copy and pass it in to be used by the new Action
-        ValueStack stack = (ValueStack) request.getAttribute(ServletActionContext.STRUTS_VALUESTACK_KEY);
-        boolean nullStack = stack == null;
-        if (nullStack) {
-            ActionContext ctx = ActionContext.getContext();
-            if (ctx != null) {
-                stack = ctx.getValueStack();
+        RequestInstrumentation.Probe probe = requestInstrumentation == null
+            ? RequestInstrumentation.Probe.NOOP
+            : requestInstrumentation.start(RequestInstrumentation.Phase.REQUEST, null, null);
+        try (probe) {
+            Map<String, Object> extraContext = createContextMap(request, response, mapping);
+
+            // If there was a previous value stack, then create a new copy and pass it in to be used by the new Action
+            ValueStack stack = (ValueStack) request.getAttribute(ServletActionContext.STRUTS_VALUESTACK_KEY);
+            boolean nullStack = stack == null;
+            if (nullStack) {
+                ActionContext ctx = ActionContext.getContext();
+                if (ctx != null) {
+                    stack = ctx.getValueStack();
+                }
             }
-        }
-        if (stack != null) {
-            extraContext = ActionContext.of(extraContext)
-                .withValueStack(valueStackFactory.createValueStack(stack))
-                .getContextMap();
-        }
-
-        try {
-            String actionNamespace = mapping.getNamespace();
-            String actionName = mapping.getName();
-            String actionMethod = mapping.getMethod();
-
-            LOG.trace("Processing action, namespace: {}, name: {}, method: {}", actionNamespace, actionName, actionMethod);
-            ActionProxy proxy = prepareActionProxy(extraContext, actionNamespace, actionName, actionMethod);
-
-            request.setAttribute(ServletActionContext.STRUTS_VALUESTACK_KEY, proxy.getInvocation().getStack());
-
-            // if the ActionMapping says to go straight to a result, do it!
-            if (mapping.getResult() != null) {
-                Result result = mapping.getResult();
-                result.execute(proxy.getInvocation());
-            } else {
-                proxy.execute();
+            if (stack != null) {
+                extraContext = ActionContext.of(extraContext)
+                    .withValueStack(valueStackFactory.createValueStack(stack))
+                    .getContextMap();
             }
 
-            // If there was a previous value stack then set it back onto the request
-            if (!nullStack) {
-                request.setAttribute(ServletActionContext.STRUTS_VALUESTACK_KEY, stack);
-            }
-        } catch (ConfigurationException e) {
-            logConfigurationException(request, e);
-            sendError(request, response, HttpServletResponse.SC_NOT_FOUND, e);
-        } catch (Exception e) {
-            if (handleException || devMode) {
-                if (devMode) {
-                    LOG.debug("Dispatcher serviceAction failed", e);
+            try {
+                String actionNamespace = mapping.getNamespace();
+                String actionName = mapping.getName();
+                String actionMethod = mapping.getMethod();
+
+                LOG.trace("Processing action, namespace: {}, name: {}, method: {}", actionNamespace, actionName, actionMethod);
+                ActionProxy proxy = prepareActionProxy(extraContext, actionNamespace, actionName, actionMethod);
+                probe.actionResolved(proxy.getConfig());
+
+                request.setAttribute(ServletActionContext.STRUTS_VALUESTACK_KEY, proxy.getInvocation().getStack());
+
+                // if the ActionMapping says to go straight to a result, do it!
+                if (mapping.getResult() != null) {
+                    Result result = mapping.getResult();
+                    result.execute(proxy.getInvocation());
+                } else {
+                    proxy.execute();
+                }
+
+                // If there was a previous value stack then set it back onto the request
+                if (!nullStack) {
+                    request.setAttribute(ServletActionContext.STRUTS_VALUESTACK_KEY, stack);
+                }
+            } catch (ConfigurationException e) {
+                logConfigurationException(request, e);
+                sendError(request, response, HttpServletResponse.SC_NOT_FOUND, e);
+            } catch (Exception e) {
+                if (handleException || devMode) {
+                    if (devMode) {
+                        LOG.debug("Dispatcher serviceAction failed", e);
+                    }
+                    sendError(request, response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e);
+                } else {
+                    throw new ServletException(e);
                 }
-                sendError(request, response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, e);
-            } else {
-                throw new ServletException(e);
             }
         }
     }
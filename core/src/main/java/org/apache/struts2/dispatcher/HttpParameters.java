@@ -18,24 +18,49 @@
  */
 package org.apache.struts2.dispatcher;
 
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
+/**
+ * Case-insensitive, read-only view over request parameters.
+ * <p>
+ * The builder takes a shallow copy of the parameter map (usually {@link jakarta.servlet.ServletRequest#getParameterMap()})
+ * so later changes to the caller's map are not visible, but no {@link Parameter} is created up front: each one is
+ * created on first access and names are only indexed case-insensitively when an exact lookup misses.
+ * {@link #remove(Set)} and {@link #appendAll(Map)} are recorded as overlays on top of the wrapped map, and
+ * {@link #size()}, {@link #keySet()}, {@link #values()} and {@link #entrySet()} are live views combining both.
+ * All internal state uses concurrent collections, so the parameters can be read from an asynchronous action while
+ * the request thread still works with them.
+ */
 @SuppressWarnings("unchecked")
 public class HttpParameters implements Map<String, Parameter> {
 
-    final private Map<String, Parameter> parameters;
+    private final Map<String, ?> source;
+    private final Map<String, Parameter> materialized = new ConcurrentHashMap<>();
+    private final Map<String, Parameter> overrides = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Set<String> removed = new ConcurrentSkipListSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    private final Set<Entry<String, Parameter>> entrySet = new EntrySet();
+    private final Set<String> keySet = new KeySet();
+    private final Collection<Parameter> values = new Values();
+
+    private volatile Map<String, String> sourceNames;
 
-    private HttpParameters(Map<String, Parameter> parameters) {
-        this.parameters = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.parameters.putAll(parameters);
+    private HttpParameters(Map<String, ?> source) {
+        this.source = source;
     }
 
     @SuppressWarnings("rawtypes")
@@ -49,19 +74,18 @@ public class HttpParameters implements Map<String, Parameter> {
 
     public HttpParameters remove(Set<String> paramsToRemove) {
         for (String paramName : paramsToRemove) {
-            parameters.remove(paramName);
+            overrides.remove(paramName);
+            removed.add(paramName);
         }
         return this;
     }
 
     public HttpParameters remove(final String paramToRemove) {
-        return remove(new HashSet<>() {{
-            add(paramToRemove);
-        }});
+        return remove(Collections.singleton(paramToRemove));
     }
 
     public boolean contains(String name) {
-        return parameters.containsKey(name);
+        return name != null && lookup(name) != null;
     }
 
     /**
@@ -71,28 +95,51 @@ public class HttpParameters implements Map<String, Parameter> {
      * @return a current instance of {@link HttpParameters}
      */
     public HttpParameters appendAll(Map<String, Parameter> newParams) {
-        parameters.putAll(newParams);
+        for (Entry<String, Parameter> entry : newParams.entrySet()) {
+            removed.remove(entry.getKey());
+            overrides.put(entry.getKey(), entry.getValue());
+        }
         return this;
     }
 
     @Override
     public int size() {
-        return parameters.size();
+        if (overrides.isEmpty() && removed.isEmpty()) {
+            return source.size();
+        }
+        int size = overrides.size();
+        for (String name : source.keySet()) {
+            if (isVisibleSourceName(name)) {
+                size++;
+            }
+        }
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return parameters.isEmpty();
+        if (!overrides.isEmpty()) {
+            return false;
+        }
+        if (removed.isEmpty()) {
+            return source.isEmpty();
+        }
+        for (String name : source.keySet()) {
+            if (isVisibleSourceName(name)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public boolean containsKey(Object key) {
-        return parameters.containsKey(key);
+        return key != null && lookup(key.toString()) != null;
     }
 
     @Override
     public boolean containsValue(Object value) {
-        return parameters.containsValue(value);
+        return values.contains(value);
     }
 
     @Override
@@ -100,7 +147,7 @@ public class HttpParameters implements Map<String, Parameter> {
         if (key == null) {
             return new Parameter.Empty("null");
         }
-        Parameter val = parameters.get(key.toString());
+        Parameter val = lookup(key.toString());
         return val != null ? val : new Parameter.Empty(key.toString());
     }
 
@@ -126,31 +173,196 @@ public class HttpParameters implements Map<String, Parameter> {
 
     @Override
     public Set<String> keySet() {
-        return Collections.unmodifiableSet(new TreeSet<>(parameters.keySet()));
+        return keySet;
     }
 
     @Override
     public Collection<Parameter> values() {
-        return Collections.unmodifiableCollection(parameters.values());
+        return values;
     }
 
     @Override
     public Set<Entry<String, Parameter>> entrySet() {
-        return Collections.unmodifiableSet(parameters.entrySet());
+        return entrySet;
     }
 
     @Override
     public String toString() {
-        return parameters.toString();
+        Iterator<Entry<String, Parameter>> entries = entrySet.iterator();
+        StringBuilder sb = new StringBuilder("{");
+        while (entries.hasNext()) {
+            Entry<String, Parameter> entry = entries.next();
+            sb.append(entry.getKey()).append('=').append(entry.getValue());
+            if (entries.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        return sb.append('}').toString();
+    }
+
+    private Parameter lookup(String name) {
+        Parameter overridden = overrides.get(name);
+        if (overridden != null) {
+            return overridden;
+        }
+        if (!removed.isEmpty() && removed.contains(name)) {
+            return null;
+        }
+        String sourceName = source.containsKey(name) ? name : sourceNames().get(name);
+        return sourceName != null ? materialize(sourceName) : null;
+    }
+
+    private boolean isVisibleSourceName(String name) {
+        return name != null && !removed.contains(name) && !overrides.containsKey(name);
+    }
+
+    private Parameter materialize(String sourceName) {
+        return materialized.computeIfAbsent(sourceName, name -> {
+            Object value = source.get(name);
+            return value instanceof Parameter ? (Parameter) value : new Parameter.Request(name, value);
+        });
+    }
+
+    private Map<String, String> sourceNames() {
+        Map<String, String> names = sourceNames;
+        if (names == null) {
+            Map<String, String> index = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (String name : source.keySet()) {
+                if (name != null) {
+                    index.putIfAbsent(name, name);
+                }
+            }
+            names = Collections.unmodifiableMap(index);
+            sourceNames = names;
+        }
+        return names;
+    }
+
+    /**
+     * Walks the visible names of the wrapped map first and then the appended parameters, without building
+     * an intermediate map.
+     */
+    private class EntryIterator implements Iterator<Entry<String, Parameter>> {
+
+        private final Iterator<String> sourceIterator = source.keySet().iterator();
+        private final Iterator<Entry<String, Parameter>> overrideIterator = overrides.entrySet().iterator();
+        private Entry<String, Parameter> next;
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            while (sourceIterator.hasNext()) {
+                String name = sourceIterator.next();
+                if (isVisibleSourceName(name)) {
+                    next = new AbstractMap.SimpleImmutableEntry<>(name, materialize(name));
+                    return true;
+                }
+            }
+            if (overrideIterator.hasNext()) {
+                next = new AbstractMap.SimpleImmutableEntry<>(overrideIterator.next());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Entry<String, Parameter> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<String, Parameter> current = next;
+            next = null;
+            return current;
+        }
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Parameter>> {
+        @Override
+        public Iterator<Entry<String, Parameter>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return HttpParameters.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return HttpParameters.this.isEmpty();
+        }
+    }
+
+    private class KeySet extends AbstractSet<String> {
+        @Override
+        public Iterator<String> iterator() {
+            Iterator<Entry<String, Parameter>> entries = new EntryIterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return entries.next().getKey();
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public int size() {
+            return HttpParameters.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return HttpParameters.this.isEmpty();
+        }
+    }
+
+    private class Values extends AbstractCollection<Parameter> {
+        @Override
+        public Iterator<Parameter> iterator() {
+            Iterator<Entry<String, Parameter>> entries = new EntryIterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public Parameter next() {
+                    return entries.next().getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return HttpParameters.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return HttpParameters.this.isEmpty();
+        }
     }
 
     public static class Builder {
-        private Map<String, Object> requestParameterMap;
+        private Map<String, ?> requestParameterMap;
+        private boolean owned;
         private HttpParameters parent;
 
         protected Builder(Map<String, ?> requestParameterMap) {
-            this.requestParameterMap = new HashMap<>();
-            this.requestParameterMap.putAll(requestParameterMap);
+            this.requestParameterMap = requestParameterMap;
         }
 
         public Builder withParent(HttpParameters parentParams) {
@@ -162,20 +374,37 @@ public class HttpParameters implements Map<String, Parameter> {
 
         public Builder withExtraParams(Map<String, ?> params) {
             if (params != null) {
-                requestParameterMap.putAll(params);
+                Map<String, Object> merged = owned ? (Map<String, Object>) requestParameterMap : new LinkedHashMap<>(requestParameterMap);
+                merged.putAll(params);
+                requestParameterMap = merged;
+                owned = true;
             }
             return this;
         }
 
         public Builder withComparator(Comparator<String> orderedComparator) {
             requestParameterMap = new TreeMap<>(orderedComparator);
+            owned = true;
             return this;
         }
 
+        /**
+         * Builds the parameters. The map given to {@link HttpParameters#create(Map)} is copied shallowly (only the
+         * references to its values), so callers may keep modifying it afterwards.
+         */
         public HttpParameters build() {
-            Map<String, Parameter> parameters = parent == null ? new HashMap<>() : new HashMap<>(parent.parameters);
+            if (parent == null) {
+                Map<String, ?> parameters = owned ? requestParameterMap : new LinkedHashMap<>(requestParameterMap);
+                requestParameterMap = parameters;
+                owned = false;
+                return new HttpParameters(parameters);
+            }
+            Map<String, Parameter> parameters = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Entry<String, Parameter> entry : parent.entrySet()) {
+                parameters.put(entry.getKey(), entry.getValue());
+            }
             requestParameterMap.forEach((name, value) ->
-                    parameters.put(name,value instanceof Parameter ? (Parameter) value : new Parameter.Request(name, value)));
+                    parameters.put(name, value instanceof Parameter ? (Parameter) value : new Parameter.Request(name, value)));
             return new HttpParameters(parameters);
         }
     }
@@ -19,6 +19,9 @@ import org.apache.struts2.inject.util.ReferenceCache;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
@@ -170,9 +173,61 @@ class ContainerImpl implements Container {
             Modifier.isPublic(member.getDeclaringClass().getModifiers());
     }
 
+    /**
+     * Creates a setter handle adapted to {@code (Object, Object)void}, so injecting a field doesn't repeat
+     * reflective access checks on each call.
+     *
+     * @param field an accessible field
+     * @return the adapted handle or null if the field cannot be written through a handle
+     */
+    private static MethodHandle toSetterHandle(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a handle adapted to {@code (Object, Object[])Object} for the given method, spreading the injected
+     * parameters over the method's arguments.
+     *
+     * @param method an accessible method
+     * @return the adapted handle or null if the method cannot be invoked through a handle
+     */
+    private static MethodHandle toMethodHandle(Method method) {
+        try {
+            final int parameterCount = method.getParameterCount();
+            return MethodHandles.lookup().unreflect(method)
+                .asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a handle adapted to {@code (Object[])Object} for the given constructor.
+     *
+     * @param constructor an accessible constructor
+     * @return the adapted handle or null if the constructor cannot be invoked through a handle
+     */
+    private static MethodHandle toConstructorHandle(Constructor<?> constructor) {
+        try {
+            final int parameterCount = constructor.getParameterCount();
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                .asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
     static class FieldInjector implements Injector {
 
         final Field field;
+        final MethodHandle setter;
         final InternalFactory<?> factory;
         final ExternalContext<?> externalContext;
 
@@ -191,6 +246,7 @@ class ContainerImpl implements Container {
                         + field.getDeclaringClass().getName() + "(" + field.getName() + ")", e);
                 }
             }
+            this.setter = toSetterHandle(field);
 
             final Key<?> key = Key.newInstance(field.getType(), name);
             factory = container.getFactory(key);
@@ -206,9 +262,18 @@ class ContainerImpl implements Container {
             final ExternalContext<?> previous = context.getExternalContext();
             context.setExternalContext(externalContext);
             try {
-                field.set(o, factory.create(context));
+                final Object value = factory.create(context);
+                if (setter != null) {
+                    setter.invokeExact(o, value);
+                } else {
+                    field.set(o, value);
+                }
             } catch (IllegalAccessException e) {
                 throw new AssertionError(e);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
             } finally {
                 context.setExternalContext(previous);
             }
@@ -323,6 +388,7 @@ class ContainerImpl implements Container {
     static class MethodInjector implements Injector {
 
         final Method method;
+        final MethodHandle handle;
         final ParameterInjector<?>[] parameterInjectors;
 
         public MethodInjector(ContainerImpl container, Method method, String name) throws MissingDependencyException {
@@ -339,6 +405,7 @@ class ContainerImpl implements Container {
                         + name + "(" + method.getName() + ")", e);
                 }
             }
+            this.handle = toMethodHandle(method);
 
             final Class<?>[] parameterTypes = method.getParameterTypes();
             if (parameterTypes.length == 0) {
@@ -350,10 +417,19 @@ class ContainerImpl implements Container {
 
         @Override
         public void inject(InternalContext context, Object o) {
+            final Object[] parameters = getParameters(method, context, parameterInjectors);
+            if (handle == null) {
+                try {
+                    method.invoke(o, parameters);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return;
+            }
             try {
-                method.invoke(o, getParameters(method, context, parameterInjectors));
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+                Object ignored = handle.invokeExact(o, parameters);
+            } catch (Throwable e) {
+                throw new RuntimeException(new InvocationTargetException(e));
             }
         }
     }
@@ -367,9 +443,12 @@ class ContainerImpl implements Container {
 
     static class ConstructorInjector<T> {
 
+        private static final Object[] NO_PARAMETERS = new Object[0];
+
         final Class<T> implementation;
         final List<Injector> injectors;
         final Constructor<T> constructor;
+        final MethodHandle handle;
         final ParameterInjector<?>[] parameterInjectors;
 
         ConstructorInjector(ContainerImpl container, Class<T> implementation) {
@@ -388,6 +467,7 @@ class ContainerImpl implements Container {
                         + implementation.getName() + "(" + constructor.getName() + ")", e);
                 }
             }
+            handle = toConstructorHandle(constructor);
 
             MissingDependencyException exception = null;
             Inject inject = null;
@@ -472,7 +552,7 @@ class ContainerImpl implements Container {
                 constructionContext.startConstruction();
                 try {
                     final Object[] parameters = getParameters(constructor, context, parameterInjectors);
-                    t = constructor.newInstance(parameters);
+                    t = newInstance(parameters);
                     constructionContext.setProxyDelegates(t);
                 } finally {
                     constructionContext.finishConstruction();
@@ -494,6 +574,19 @@ class ContainerImpl implements Container {
                 constructionContext.removeCurrentReference();
             }
         }
+
+        @SuppressWarnings("unchecked")
+        private T newInstance(Object[] parameters)
+            throws InstantiationException, IllegalAccessException, InvocationTargetException {
+            if (handle == null) {
+                return constructor.newInstance(parameters);
+            }
+            try {
+                return (T) (Object) handle.invokeExact(parameters == null ? NO_PARAMETERS : parameters);
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
     }
 
     static class ParameterInjector<T> {
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.instrumentation;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.inject.Initializable;
+import org.apache.struts2.inject.Inject;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Default implementation of {@link RequestInstrumentation}, disabled unless "struts.instrumentation.enabled"
+ * is set to true. Timings and, when supported by the JVM, allocated bytes of each phase are aggregated
+ * per configured action into {@link PhaseStatistics} and exposed over JMX as "org.apache.struts2:type=RequestInstrumentation".
+ * <p>
+ * Time and allocations spent in nested phases are tracked separately, so the "self" values of an interceptor
+ * don't include the rest of the stack, the action and the result. Requests which don't map to a configured action
+ * are all aggregated under {@link #UNKNOWN_ACTION}, so clients can't create new statistics by requesting random URLs.
+ *
+ * @since 7.1.1
+ */
+public class DefaultRequestInstrumentation implements RequestInstrumentation, RequestInstrumentationMXBean, Initializable {
+
+    private static final Logger LOG = LogManager.getLogger(DefaultRequestInstrumentation.class);
+
+    public static final String UNKNOWN_ACTION = "[unknown]";
+
+    private final ConcurrentMap<Key, PhaseStatistics> statistics = new ConcurrentHashMap<>();
+    private final ThreadLocal<ActiveProbe> currentProbe = new ThreadLocal<>();
+
+    private boolean enabled;
+    private boolean allocationEnabled = true;
+    private boolean jmxEnabled = true;
+
+    private com.sun.management.ThreadMXBean allocationMXBean;
+    private ObjectName objectName;
+
+    @Inject(value = StrutsConstants.STRUTS_INSTRUMENTATION_ENABLED, required = false)
+    public void setEnabled(String enabled) {
+        this.enabled = BooleanUtils.toBoolean(enabled);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_INSTRUMENTATION_ALLOCATION, required = false)
+    public void setAllocationEnabled(String allocationEnabled) {
+        this.allocationEnabled = BooleanUtils.toBoolean(allocationEnabled);
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_INSTRUMENTATION_JMX, required = false)
+    public void setJmxEnabled(String jmxEnabled) {
+        this.jmxEnabled = BooleanUtils.toBoolean(jmxEnabled);
+    }
+
+    @Override
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        if (allocationEnabled) {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                    && sunThreadMXBean.isThreadAllocatedMemorySupported()
+                    && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+                allocationMXBean = sunThreadMXBean;
+            } else {
+                LOG.info("Measuring allocated memory per thread isn't supported by this JVM, only timings will be recorded");
+            }
+        }
+        if (jmxEnabled) {
+            registerMBean();
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName("org.apache.struts2:type=RequestInstrumentation,id=" + System.identityHashCode(this));
+            server.registerMBean(this, name);
+            objectName = name;
+            LOG.debug("Registered request instrumentation MBean: {}", name);
+        } catch (JMException e) {
+            LOG.warn("Cannot register request instrumentation MBean", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.debug("Cannot unregister request instrumentation MBean: {}", objectName, e);
+            }
+            objectName = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Probe start(Phase phase, ActionConfig actionConfig, String name) {
+        if (!enabled) {
+            return Probe.NOOP;
+        }
+        ActiveProbe probe = new ActiveProbe(keyOf(actionConfig, phase, name), currentProbe.get());
+        currentProbe.set(probe);
+        return probe;
+    }
+
+    @Override
+    public List<PhaseStatistics> getStatistics() {
+        return new ArrayList<>(statistics.values());
+    }
+
+    @Override
+    public long[] getHistogramBoundsMillis() {
+        return PhaseStatistics.HISTOGRAM_BOUNDS_MILLIS.clone();
+    }
+
+    @Override
+    public void reset() {
+        statistics.clear();
+    }
+
+    private long allocatedBytes() {
+        return allocationMXBean != null ? allocationMXBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private PhaseStatistics statisticsFor(Key key) {
+        return statistics.computeIfAbsent(key, k -> new PhaseStatistics(k.action(), k.phase(), k.name()));
+    }
+
+    /**
+     * Wildcard actions are converted into a new {@link ActionConfig} for each request, but keep the name
+     * they are declared with, so package and action name identify the configuration.
+     */
+    private static Key keyOf(ActionConfig actionConfig, Phase phase, String name) {
+        if (actionConfig == null) {
+            return new Key(UNKNOWN_ACTION, phase, null);
+        }
+        return new Key(actionConfig.getPackageName() + "/" + actionConfig.getName(), phase, name);
+    }
+
+    private record Key(String action, Phase phase, String name) {
+    }
+
+    private final class ActiveProbe implements Probe {
+
+        private final ActiveProbe parent;
+        private final long startNanos;
+        private final long startAllocated;
+
+        private Key key;
+        private long nestedNanos;
+        private long nestedAllocated;
+        private boolean closed;
+
+        private ActiveProbe(Key key, ActiveProbe parent) {
+            this.key = key;
+            this.parent = parent;
+            this.startAllocated = allocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void actionResolved(ActionConfig actionConfig) {
+            key = keyOf(actionConfig, key.phase(), key.name());
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            long elapsed = System.nanoTime() - startNanos;
+            long allocated = startAllocated < 0 ? -1 : allocatedBytes() - startAllocated;
+
+            if (parent == null) {
+                currentProbe.remove();
+            } else {
+                currentProbe.set(parent);
+                parent.nestedNanos += elapsed;
+                parent.nestedAllocated += allocated;
+            }
+            statisticsFor(key).record(elapsed, elapsed - nestedNanos, allocated, allocated - nestedAllocated);
+        }
+    }
+}
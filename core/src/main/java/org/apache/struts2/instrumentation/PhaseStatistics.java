@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated timings and allocations of a single phase of a given action,
+ * see {@link DefaultRequestInstrumentation}.
+ *
+ * @since 7.1.1
+ */
+public class PhaseStatistics {
+
+    static final long[] HISTOGRAM_BOUNDS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final String action;
+    private final RequestInstrumentation.Phase phase;
+    private final String name;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder selfNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder selfAllocatedBytes = new LongAdder();
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BOUNDS_MILLIS.length + 1);
+
+    PhaseStatistics(String action, RequestInstrumentation.Phase phase, String name) {
+        this.action = action;
+        this.phase = phase;
+        this.name = name;
+    }
+
+    void record(long nanos, long ownNanos, long allocated, long ownAllocated) {
+        count.increment();
+        totalNanos.add(nanos);
+        selfNanos.add(ownNanos);
+        maxNanos.accumulate(nanos);
+        if (allocated >= 0) {
+            allocatedBytes.add(allocated);
+            selfAllocatedBytes.add(ownAllocated);
+        }
+        histogram.incrementAndGet(bucketOf(nanos / 1_000_000));
+    }
+
+    private static int bucketOf(long millis) {
+        for (int i = 0; i < HISTOGRAM_BOUNDS_MILLIS.length; i++) {
+            if (millis < HISTOGRAM_BOUNDS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return HISTOGRAM_BOUNDS_MILLIS.length;
+    }
+
+    /**
+     * @return package and name of the action configuration
+     */
+    public String getAction() {
+        return action;
+    }
+
+    public String getPhase() {
+        return phase.name();
+    }
+
+    /**
+     * @return name of the measured element, e.g. interceptor name, action method or result code
+     */
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return time spent in this phase excluding nested phases, e.g. the rest of the interceptor stack
+     */
+    public long getSelfNanos() {
+        return selfNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getAverageNanos() {
+        long calls = count.sum();
+        return calls == 0 ? 0 : totalNanos.sum() / calls;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    /**
+     * @return bytes allocated in this phase excluding nested phases
+     */
+    public long getSelfAllocatedBytes() {
+        return selfAllocatedBytes.sum();
+    }
+
+    /**
+     * @return number of calls per bucket, bucket upper bounds are defined by
+     * {@link RequestInstrumentationMXBean#getHistogramBoundsMillis()}, the last bucket counts slower calls
+     */
+    public long[] getHistogram() {
+        long[] counts = new long[histogram.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = histogram.get(i);
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseStatistics{" +
+                "action='" + action + '\'' +
+                ", phase=" + phase +
+                ", name='" + name + '\'' +
+                ", count=" + getCount() +
+                ", totalNanos=" + getTotalNanos() +
+                ", selfNanos=" + getSelfNanos() +
+                ", maxNanos=" + getMaxNanos() +
+                '}';
+    }
+}
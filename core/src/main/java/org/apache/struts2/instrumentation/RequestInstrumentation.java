@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.instrumentation;
+
+import org.apache.struts2.config.entities.ActionConfig;
+
+/**
+ * Measures phases of processing a request: the whole request handled by
+ * {@link org.apache.struts2.dispatcher.Dispatcher}, each interceptor, the action method,
+ * each {@link org.apache.struts2.interceptor.PreResultListener} and the {@link org.apache.struts2.result.Result}.
+ * <p>
+ * A phase is measured by the {@link Probe} returned from {@link #start(Phase, ActionConfig, String)}
+ * and ends when the probe is closed, probes opened on the same thread must be closed in reverse order,
+ * which is guaranteed when used with try-with-resources:
+ *
+ * <pre>
+ * try (RequestInstrumentation.Probe ignored = instrumentation.start(Phase.RESULT, actionConfig, resultCode)) {
+ *     result.execute(invocation);
+ * }
+ * </pre>
+ * <p>
+ * Phases are attributed to the resolved {@link ActionConfig} only, never to the requested namespace, action name
+ * or method, which are under control of the client. The {@link Phase#REQUEST} phase starts before the action is
+ * resolved and gets its configuration through {@link Probe#actionResolved(ActionConfig)}, requests which
+ * don't map to any configured action are measured with a null configuration and should be aggregated together.
+ * <p>
+ * Implementation can be selected with the "struts.instrumentation" constant.
+ *
+ * @since 7.1.1
+ */
+public interface RequestInstrumentation {
+
+    enum Phase {
+        REQUEST,
+        INTERCEPTOR,
+        ACTION,
+        PRE_RESULT_LISTENER,
+        RESULT
+    }
+
+    /**
+     * Starts measuring a phase
+     *
+     * @param phase        measured phase
+     * @param actionConfig configuration of the executed action, null if not resolved (yet)
+     * @param name         name of the measured element, e.g. interceptor name, action method or result code
+     * @return a probe which must be closed when the phase ends, never null
+     */
+    Probe start(Phase phase, ActionConfig actionConfig, String name);
+
+    /**
+     * Releases resources held by the instrumentation, called when the Dispatcher is destroyed or replaces
+     * the instrumentation after a configuration reload
+     */
+    default void destroy() {
+    }
+
+    interface Probe extends AutoCloseable {
+
+        /**
+         * Probe used when instrumentation is disabled
+         */
+        Probe NOOP = () -> {
+        };
+
+        /**
+         * Attributes the measured phase to the given action, used when the phase started before the action
+         * was resolved
+         *
+         * @param actionConfig configuration of the executed action
+         */
+        default void actionResolved(ActionConfig actionConfig) {
+        }
+
+        /**
+         * Ends the measured phase
+         */
+        @Override
+        void close();
+    }
+}
@@ -38,6 +38,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -132,6 +133,7 @@ public class ChainingInterceptor extends AbstractInterceptor {
     private boolean copyFieldErrors = false;
 
     protected Collection<String> excludes;
+    private Collection<String> defaultExcludes;
 
     protected Collection<String> includes;
     protected ReflectionProvider reflectionProvider;
@@ -144,16 +146,19 @@ public class ChainingInterceptor extends AbstractInterceptor {
     @Inject(value = StrutsConstants.STRUTS_CHAINING_COPY_ERRORS, required = false)
     public void setCopyErrors(String copyErrors) {
         this.copyErrors = "true".equalsIgnoreCase(copyErrors);
+        this.defaultExcludes = null;
     }
 
     @Inject(value = StrutsConstants.STRUTS_CHAINING_COPY_FIELD_ERRORS, required = false)
     public void setCopyFieldErrors(String copyFieldErrors) {
         this.copyFieldErrors = "true".equalsIgnoreCase(copyFieldErrors);
+        this.defaultExcludes = null;
     }
 
     @Inject(value = StrutsConstants.STRUTS_CHAINING_COPY_MESSAGES, required = false)
     public void setCopyMessages(String copyMessages) {
         this.copyMessages = "true".equalsIgnoreCase(copyMessages);
+        this.defaultExcludes = null;
     }
 
     @Override
@@ -186,16 +191,22 @@ public class ChainingInterceptor extends AbstractInterceptor {
         Collection<String> localExcludes = excludes;
         if (!copyErrors || !copyMessages ||!copyFieldErrors) {
             if (localExcludes == null) {
-                localExcludes = new HashSet<>();
+                localExcludes = defaultExcludes;
+            }
+            if (localExcludes == null) {
+                Set<String> newExcludes = new HashSet<>();
                 if (!copyErrors) {
-                    localExcludes.add(ACTION_ERRORS);
+                    newExcludes.add(ACTION_ERRORS);
                 }
                 if (!copyMessages) {
-                    localExcludes.add(ACTION_MESSAGES);
+                    newExcludes.add(ACTION_MESSAGES);
                 }
                 if (!copyFieldErrors) {
-                    localExcludes.add(FIELD_ERRORS);
+                    newExcludes.add(FIELD_ERRORS);
                 }
+                // built once, the flags are only changed by configuration
+                localExcludes = Collections.unmodifiableSet(newExcludes);
+                defaultExcludes = localExcludes;
             }
         }
         return localExcludes;
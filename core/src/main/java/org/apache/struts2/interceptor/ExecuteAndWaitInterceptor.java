@@ -25,6 +25,7 @@ import org.apache.struts2.ActionProxy;
 import org.apache.struts2.config.entities.ResultConfig;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.Inject;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -38,6 +39,10 @@ import org.apache.struts2.views.freemarker.FreemarkerResult;
 
 import java.io.Serial;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -86,6 +91,11 @@ import java.util.Map;
  * <p>The thread kicked off by this interceptor will be named in the form <b><u>actionName</u>BackgroundProcess</b>.
  * For example, the <i>search</i> action would run as a thread named <i>searchBackgroundProcess</i>.
  * </p>
+ *
+ * <p>When the background process cannot be started, because the number of processes of the action reached
+ * the <i>maxProcesses</i> limit or the {@link ExecutorProvider} rejected it (see "struts.executor.maxThreads"),
+ * the <b>busy</b> result is returned. If no "busy" result is found, HTTP status 503 is sent instead.
+ * </p>
  * <!-- END SNIPPET: description -->
  *
  * <p><u>Interceptor parameters:</u></p>
@@ -97,6 +107,7 @@ import java.util.Map;
  * <li>threadPriority (optional) - the priority to assign the thread. Default is <code>Thread.NORM_PRIORITY</code>.</li>
  * <li>delay (optional) - an initial delay in millis to wait before the wait page is shown (returning <code>wait</code> as result code). Default is no initial delay.</li>
  * <li>delaySleepInterval (optional) - only used with delay. Used for waking up at certain intervals to check if the background process is already done. Default is 100 millis.</li>
+ * <li>maxProcesses (optional) - maximum number of background processes of the action running at the same time across all sessions. Default is 0 which means no limit.</li>
  *
  * </ul>
  * <p>
@@ -184,11 +195,15 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
 
     public static final String KEY = "__execWait";
     public static final String WAIT = "wait";
+    public static final String BUSY = "busy";
     protected int delay;
     protected int delaySleepInterval = 100; // default sleep 100 millis before checking if background process is done
     protected boolean executeAfterValidationPass = false;
 
     private int threadPriority = Thread.NORM_PRIORITY;
+    private int maxProcesses;
+
+    private final ConcurrentMap<String, Set<BackgroundProcess>> runningProcesses = new ConcurrentHashMap<>();
 
     private Container container;
     private ExecutorProvider executor;
@@ -273,7 +288,10 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
                     LOG.warn("Executor is shutting down (or null), cannot execute a new process, invoke next ActionInvocation step and return.");
                     return actionInvocation.invoke();
                 }
-                executor.execute(bp);
+                if (!startBackgroundProcess(name, bp)) {
+                    session.remove(bp_SessionKey);
+                    return busy(actionInvocation);
+                }
                 performInitialDelay(bp); // first time let some time pass before showing wait page
                 secondTime = false;
             }
@@ -327,6 +345,78 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         }
     }
 
+    /**
+     * Executes the background process unless the limit of running processes is reached or the executor rejects it
+     *
+     * @param name the process name
+     * @param bp   the background process
+     * @return true if the process was accepted by the executor
+     */
+    protected boolean startBackgroundProcess(String name, BackgroundProcess bp) {
+        if (maxProcesses <= 0) {
+            return execute(name, bp, null);
+        }
+
+        Set<BackgroundProcess> running = runningProcesses.computeIfAbsent(name, key -> ConcurrentHashMap.newKeySet());
+        synchronized (running) {
+            running.removeIf(BackgroundProcess::isDone);
+            if (running.size() >= maxProcesses) {
+                LOG.warn("Background process: {} cannot be started, {} processes are already running", name, maxProcesses);
+                return false;
+            }
+            running.add(bp);
+        }
+        return execute(name, bp, running);
+    }
+
+    private boolean execute(String name, BackgroundProcess bp, Set<BackgroundProcess> running) {
+        try {
+            executor.execute(running == null ? bp : new RunningProcess(bp, running));
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (running != null) {
+                running.remove(bp);
+            }
+            LOG.warn("Background process: {} has been rejected by executor: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Handles a background process which could not be started, returns the "busy" result if available
+     * or sends HTTP status 503.
+     *
+     * @param actionInvocation the action invocation
+     * @return the result code
+     * @throws Exception if sending the response fails
+     */
+    protected String busy(ActionInvocation actionInvocation) throws Exception {
+        if (actionInvocation.getProxy().getConfig().getResults().containsKey(BUSY)) {
+            return BUSY;
+        }
+
+        HttpServletResponse response = actionInvocation.getInvocationContext().getServletResponse();
+        if (response == null) {
+            return BUSY;
+        }
+        LOG.warn("ExecuteAndWait interceptor has detected that no result named '{}' is available, sending status 503.", BUSY);
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        return Action.NONE;
+    }
+
+    /**
+     * @param name the process name
+     * @return number of processes with the name which have been executed but didn't finish yet
+     */
+    int getRunningProcesses(String name) {
+        Set<BackgroundProcess> running = runningProcesses.get(name);
+        if (running == null) {
+            return 0;
+        }
+        running.removeIf(BackgroundProcess::isDone);
+        return running.size();
+    }
+
     /**
      * <p>
      * Performs the initial delay.
@@ -366,6 +456,17 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
         this.threadPriority = threadPriority;
     }
 
+    /**
+     * Sets the maximum number of background processes of the action running at the same time.
+     * Processes are counted until they report {@link BackgroundProcess#isDone()}, which also covers processes
+     * running in their own thread, e.g. a {@link StrutsBackgroundProcess} executed by a custom {@link ExecutorProvider}.
+     *
+     * @param maxProcesses the limit, 0 for no limit
+     */
+    public void setMaxProcesses(int maxProcesses) {
+        this.maxProcesses = maxProcesses;
+    }
+
     /**
      * Sets the initial delay in millis (msec).
      *
@@ -411,4 +512,27 @@ public class ExecuteAndWaitInterceptor extends MethodFilterInterceptor {
           super.destroy();
         }
     }
+
+    /**
+     * Releases the slot of the process as soon as it returns done, processes still running in their own thread
+     * are released by the next {@link #startBackgroundProcess(String, BackgroundProcess)} once they are done
+     */
+    private record RunningProcess(BackgroundProcess process, Set<BackgroundProcess> running) implements Runnable {
+
+        @Override
+        public void run() {
+            try {
+                process.run();
+            } finally {
+                if (process.isDone()) {
+                    running.remove(process);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return process.toString();
+        }
+    }
 }
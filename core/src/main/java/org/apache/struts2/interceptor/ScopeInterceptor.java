@@ -34,8 +34,12 @@ import org.apache.struts2.dispatcher.SessionMap;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -109,6 +113,8 @@ import java.util.Map;
  * <li>reset - boolean, defaults to false, if set, it has the same effect as setting all session values to be reset to action's default values or application.</li>
  *
  * <li>autoCreateSession - boolean value, sets if the session should be automatically created.</li>
+ *
+ * <li>lockTimeout - time in milliseconds to wait for the session used by another invocation, defaults to 30000.</li>
  * </ul>
  *
  * <!-- END SNIPPET: parameters -->
@@ -156,6 +162,7 @@ public class ScopeInterceptor extends AbstractInterceptor implements PreResultLi
     private boolean autoCreateSession = true;
     private String sessionReset = "session.reset";
     private boolean reset = false;
+    private long lockTimeout = 30000;
 
     /**
      * Sets a list of application scoped properties
@@ -179,6 +186,15 @@ public class ScopeInterceptor extends AbstractInterceptor implements PreResultLi
         }
     }
 
+    /**
+     * @param lockTimeout time in milliseconds to wait for the session used by another invocation
+     */
+    public void setLockTimeout(String lockTimeout) {
+        if (StringUtils.isNotBlank(lockTimeout)) {
+            this.lockTimeout = Long.parseLong(lockTimeout);
+        }
+    }
+
     /**
      * Sets if the session should be automatically created
      *
@@ -234,39 +250,122 @@ public class ScopeInterceptor extends AbstractInterceptor implements PreResultLi
         return o;
     }
 
-    private static final Map<Object, Object> locks = new IdentityHashMap<>();
+    /**
+     * Locks of sessions used by running invocations, an entry is removed when no invocation holds or waits for it
+     */
+    private static final ConcurrentMap<IdentityKey, SessionLock> locks = new ConcurrentHashMap<>();
 
-    static void lock(Object o, ActionInvocation invocation) throws Exception {
-        synchronized (o) {
-            int count = 3;
-            Object previous;
-            while ((previous = locks.get(o)) != null) {
-                if (previous == invocation) {
-                    return;
-                }
-                if (count-- <= 0) {
-                    locks.remove(o);
-                    o.notify();
+    static void lock(Object o, ActionInvocation invocation, long timeoutMillis) throws Exception {
+        IdentityKey key = new IdentityKey(o);
+        SessionLock sessionLock = locks.compute(key, (k, current) -> {
+            SessionLock lock = current != null ? current : new SessionLock();
+            lock.users++;
+            return lock;
+        });
 
-                    throw new StrutsException("Deadlock in session lock");
-                }
-                o.wait(10000);
+        boolean acquired = false;
+        try {
+            acquired = sessionLock.acquire(invocation, TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        } finally {
+            if (!acquired) {
+                // re-entered by the same invocation, timed out or interrupted
+                release(key);
             }
-            locks.put(o, invocation);
+        }
+        if (sessionLock.owner != invocation) {
+            throw new StrutsException("Deadlock in session lock");
+        }
+    }
+
+    static void unlock(Object o, ActionInvocation invocation) {
+        IdentityKey key = new IdentityKey(o);
+        SessionLock sessionLock = locks.get(key);
+        if (sessionLock != null && sessionLock.release(invocation)) {
+            release(key);
+        }
+    }
+
+    private static void release(IdentityKey key) {
+        locks.computeIfPresent(key, (k, lock) -> --lock.users == 0 ? null : lock);
+    }
+
+    /**
+     * Compares the wrapped object by identity, like the session lock did before
+     */
+    private static final class IdentityKey {
+        private final Object object;
+
+        private IdentityKey(Object object) {
+            this.object = object;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey other && other.object == object;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(object);
         }
     }
 
-    static void unlock(Object o) {
-        synchronized (o) {
-            locks.remove(o);
-            o.notify();
+    /**
+     * Lock owned by an invocation rather than by a thread, so it can be released by any of the unlock calls
+     * and re-entered by the same invocation
+     */
+    private static final class SessionLock {
+        private final ReentrantLock mutex = new ReentrantLock();
+        private final Condition released = mutex.newCondition();
+        private volatile Object owner;
+        // guarded by the map entry, see lock and release
+        private int users;
+
+        /**
+         * @return true if the lock was acquired, false if already owned by the invocation or timed out
+         */
+        private boolean acquire(Object invocation, long timeoutNanos) throws InterruptedException {
+            mutex.lock();
+            try {
+                if (owner == invocation) {
+                    return false;
+                }
+                long remaining = timeoutNanos;
+                while (owner != null) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                owner = invocation;
+                return true;
+            } finally {
+                mutex.unlock();
+            }
+        }
+
+        /**
+         * @return true if the lock was owned by the invocation and has been released
+         */
+        private boolean release(Object invocation) {
+            mutex.lock();
+            try {
+                if (owner != invocation) {
+                    return false;
+                }
+                owner = null;
+                released.signal();
+                return true;
+            } finally {
+                mutex.unlock();
+            }
         }
     }
 
     protected void after(ActionInvocation invocation, String result) throws Exception {
         Map<String, Object> session = ActionContext.getContext().getSession();
         if ( session != null) {
-            unlock(session);
+            unlock(session, invocation);
         }
     }
 
@@ -280,7 +379,7 @@ public class ScopeInterceptor extends AbstractInterceptor implements PreResultLi
         }
 
         if ( session != null) {
-            lock(session, invocation);
+            lock(session, invocation, lockTimeout);
         }
 
         String key = getKey(invocation);
@@ -362,7 +461,7 @@ public class ScopeInterceptor extends AbstractInterceptor implements PreResultLi
                     }
                 }
             }
-            unlock(session);
+            unlock(session, invocation);
         } else {
             LOG.debug("No HttpSession created... Cannot save session scoped variables.");
         }
@@ -416,7 +515,7 @@ public class ScopeInterceptor extends AbstractInterceptor implements PreResultLi
             after(invocation, result);
         } finally {
             if (session != null) {
-                unlock(session);
+                unlock(session, invocation);
             }
         }
 
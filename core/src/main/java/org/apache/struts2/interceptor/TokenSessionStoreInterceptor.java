@@ -31,6 +31,9 @@ import org.apache.struts2.util.TokenHelper;
 import org.apache.struts2.util.ValueStack;
 
 import java.io.Serial;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * <!-- START SNIPPET: description -->
@@ -57,7 +60,9 @@ import java.io.Serial;
  *
  * <ul>
  *
- * <li>None</li>
+ * <li>invocationTimeToLive (optional) - milliseconds a stored invocation is kept to replay its result for repeated
+ * submissions of the same token, expired invocations are evicted from the session. Default is 0 which keeps them for
+ * the lifetime of the session.</li>
  *
  * </ul>
  *
@@ -101,19 +106,59 @@ public class TokenSessionStoreInterceptor extends TokenInterceptor {
     @Serial
     private static final long serialVersionUID = -9032347965469098195L;
 
+    /**
+     * Locks of sessions currently handling a token, a lock is removed once no request of the session holds or awaits it
+     */
+    private static final ConcurrentMap<String, SessionLock> SESSION_LOCKS = new ConcurrentHashMap<>();
+
+    private long invocationTimeToLive;
+
+    /**
+     * @param invocationTimeToLive milliseconds a stored invocation can be replayed for, 0 to keep it as long as the session
+     */
+    public void setInvocationTimeToLive(long invocationTimeToLive) {
+        this.invocationTimeToLive = invocationTimeToLive;
+    }
+
     @Override
     protected String handleToken(ActionInvocation invocation) throws Exception {
         //see WW-2902: we need to use the real HttpSession here, as opposed to the map
         //that wraps the session, because a new wrap is created on every request
         HttpSession session = ServletActionContext.getRequest().getSession(true);
-        synchronized (session.getId().intern()) {
+        String sessionId = session.getId();
+        SessionLock lock = lockSession(sessionId);
+        try {
             if (!TokenHelper.validToken()) {
                 return handleInvalidToken(invocation);
             }
             return handleValidToken(invocation);
+        } finally {
+            unlockSession(sessionId, lock);
         }
     }
 
+    private static SessionLock lockSession(String sessionId) {
+        SessionLock lock = SESSION_LOCKS.compute(sessionId, (id, existing) -> {
+            SessionLock sessionLock = existing != null ? existing : new SessionLock();
+            sessionLock.users++;
+            return sessionLock;
+        });
+        lock.lock();
+        return lock;
+    }
+
+    private static void unlockSession(String sessionId, SessionLock lock) {
+        lock.unlock();
+        SESSION_LOCKS.computeIfPresent(sessionId, (id, sessionLock) -> --sessionLock.users == 0 ? null : sessionLock);
+    }
+
+    /**
+     * @return number of sessions currently holding or awaiting a lock
+     */
+    static int lockedSessions() {
+        return SESSION_LOCKS.size();
+    }
+
     /**
      * Handles processing of invalid tokens.  If a previously stored invocation is
      * available, the method will attempt to return and render its result.  Otherwise
@@ -172,7 +217,7 @@ public class TokenSessionStoreInterceptor extends TokenInterceptor {
     /**
      * Handles processing of valid tokens.  Stores the current invocation for
      * later use by {@see #handleValidToken(ActionInvocation)}.
-     * See {@link org.apache.struts2.util.InvocationSessionStore#storeInvocation(String key, String token, ActionInvocation invocation)} for details.
+     * See {@link org.apache.struts2.util.InvocationSessionStore#storeInvocation(String key, String token, ActionInvocation invocation, long timeToLive)} for details.
      *
      * @param invocation
      *
@@ -185,9 +230,20 @@ public class TokenSessionStoreInterceptor extends TokenInterceptor {
         String key = TokenHelper.getTokenName();
         String token = TokenHelper.getToken(key);
 		String sessionTokenName = TokenHelper.buildTokenSessionAttributeName(key);
-		InvocationSessionStore.storeInvocation(sessionTokenName, token, invocation);
+		InvocationSessionStore.storeInvocation(sessionTokenName, token, invocation, invocationTimeToLive);
 
         return invocation.invoke();
     }
 
+    /**
+     * Lock of a session together with the count of requests holding or awaiting it, guarded by {@link #SESSION_LOCKS}
+     */
+    private static final class SessionLock extends ReentrantLock {
+
+        @Serial
+        private static final long serialVersionUID = 7475396290385924581L;
+
+        private int users;
+    }
+
 }
@@ -28,6 +28,9 @@ import java.io.Serializable;
 
 /**
  * Background thread to be executed by the ExecuteAndWaitInterceptor.
+ * <p>
+ * When executed by {@link StrutsExecutorProvider} the action is invoked in the executor's thread, named and
+ * prioritized as this process for the time of the invocation, otherwise a new thread is started for the invocation.
  */
 public class StrutsBackgroundProcess implements BackgroundProcess, Serializable {
 
@@ -39,13 +42,13 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
     private final String threadName;
     private final int threadPriority;
 
-    private transient Thread processThread;
+    private transient Runnable processTask;
     //WW-4900 transient since 2.5.15
     protected transient ActionInvocation invocation;
     protected transient Exception exception;
 
     protected String result;
-    protected boolean done;
+    protected volatile boolean done;
 
     /**
      * Constructs a background process
@@ -62,43 +65,69 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
 
     @Override
     public BackgroundProcess prepare() {
-        try {
-            processThread = new Thread(() -> {
+        processTask = () -> {
+            try {
+                beforeInvocation();
+                result = invocation.invokeActionOnly();
+            } catch (Exception e) {
+                LOG.warn("Exception during invokeActionOnly() execution", e);
+                exception = e;
+            } finally {
                 try {
-                    beforeInvocation();
-                    result = invocation.invokeActionOnly();
-                } catch (Exception e) {
-                    LOG.warn("Exception during invokeActionOnly() execution", e);
-                    exception = e;
-                } finally {
-                    try {
-                        afterInvocation();
-                    } catch (Exception ex) {
-                        if (exception == null) {
-                            exception = ex;
-                        }
-                        LOG.warn("Exception during afterInvocation() execution", ex);
+                    afterInvocation();
+                } catch (Exception ex) {
+                    if (exception == null) {
+                        exception = ex;
                     }
-                    done = true;
+                    LOG.warn("Exception during afterInvocation() execution", ex);
                 }
-            });
+                done = true;
+            }
+        };
+        return this;
+    }
+
+    @Override
+    public void run() {
+        if (processTask == null) {
+            done = true;
+            exception = new IllegalStateException("Background thread " + threadName + " has not been prepared!");
+            return;
+        }
+        if (StrutsExecutorProvider.isWorkerThread()) {
+            runInCurrentThread();
+        } else {
+            startThread();
+        }
+    }
+
+    private void startThread() {
+        try {
+            Thread processThread = new Thread(processTask);
             processThread.setName(threadName);
             processThread.setPriority(threadPriority);
+            processThread.start();
         } catch (Exception e) {
             done = true;
             exception = e;
         }
-        return this;
     }
 
-    @Override
-    public void run() {
-        if (processThread == null) {
+    private void runInCurrentThread() {
+        Thread currentThread = Thread.currentThread();
+        String originalName = currentThread.getName();
+        int originalPriority = currentThread.getPriority();
+        try {
+            currentThread.setName(threadName);
+            currentThread.setPriority(threadPriority);
+            processTask.run();
+        } catch (Exception e) {
             done = true;
-            exception = new IllegalStateException("Background thread " + threadName + " has not been prepared!");
-            return;
+            exception = e;
+        } finally {
+            currentThread.setName(originalName);
+            currentThread.setPriority(originalPriority);
         }
-        processThread.start();
     }
 
     /**
@@ -174,6 +203,6 @@ public class StrutsBackgroundProcess implements BackgroundProcess, Serializable
 
     @Override
     public String toString() {
-        return "StrutsBackgroundProcess { name = " + processThread.getName() + " }";
+        return "StrutsBackgroundProcess { name = " + threadName + " }";
     }
 }
@@ -18,36 +18,282 @@
  */
 package org.apache.struts2.interceptor.exec;
 
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.inject.Initializable;
+import org.apache.struts2.inject.Inject;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
-public class StrutsExecutorProvider implements ExecutorProvider {
+/**
+ * Default {@link ExecutorProvider}, by default a new thread is used for each background process (idle threads are
+ * reused), the number of threads can be limited with "struts.executor.maxThreads" and processes above the limit
+ * queued up to "struts.executor.queueCapacity", processes which cannot be queued are rejected with
+ * {@link RejectedExecutionException}. With "struts.executor.virtualThreads" processes run on virtual threads
+ * when supported by the JDK.
+ * <p>
+ * A {@link StrutsBackgroundProcess} executed by this provider runs in the executor's thread instead of starting
+ * its own one, so the limits apply to the actions running in background.
+ * <p>
+ * Queue depth, latency and counts of processes are exposed over JMX as
+ * "org.apache.struts2:type=ExecutorProvider", unless "struts.executor.jmx" is set to false.
+ */
+public class StrutsExecutorProvider implements ExecutorProvider, StrutsExecutorProviderMXBean, Initializable {
 
     private static final Logger LOG = LogManager.getLogger(StrutsExecutorProvider.class);
 
-    private final ExecutorService executor;
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static final ThreadLocal<Boolean> WORKER_THREAD = new ThreadLocal<>();
+
+    private volatile ThreadPoolExecutor executor;
+
+    private int maxThreads;
+    private int queueCapacity;
+    private boolean virtualThreads;
+    private boolean jmxEnabled = true;
+    private ObjectName objectName;
+
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder startedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder queueLatencyNanos = new LongAdder();
+    private final AtomicLong maxQueueLatencyNanos = new AtomicLong();
+
+    /**
+     * @param maxThreads maximum number of threads running background processes, 0 or less for no limit
+     * @since 7.1.1
+     */
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_MAX_THREADS, required = false)
+    public void setMaxThreads(String maxThreads) {
+        this.maxThreads = Integer.parseInt(maxThreads);
+    }
+
+    /**
+     * @param queueCapacity number of background processes waiting for a thread when all are busy, only used
+     *                      when the number of threads is limited, 0 or less to reject processes right away
+     * @since 7.1.1
+     */
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_QUEUE_CAPACITY, required = false)
+    public void setQueueCapacity(String queueCapacity) {
+        this.queueCapacity = Integer.parseInt(queueCapacity);
+    }
+
+    /**
+     * @param virtualThreads run background processes on virtual threads if supported by the JDK
+     * @since 7.1.1
+     */
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_VIRTUAL_THREADS, required = false)
+    public void setVirtualThreads(String virtualThreads) {
+        this.virtualThreads = BooleanUtils.toBoolean(virtualThreads);
+    }
+
+    /**
+     * @param jmxEnabled register the statistics of the executor as an MBean
+     * @since 7.1.1
+     */
+    @Inject(value = StrutsConstants.STRUTS_EXECUTOR_JMX, required = false)
+    public void setJmxEnabled(String jmxEnabled) {
+        this.jmxEnabled = BooleanUtils.toBoolean(jmxEnabled);
+    }
+
+    @Override
+    public void init() {
+        getExecutor();
+        if (jmxEnabled) {
+            registerMBean();
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            ObjectName name = new ObjectName("org.apache.struts2:type=ExecutorProvider,id=" + System.identityHashCode(this));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+            LOG.debug("Registered executor MBean: {}", name);
+        } catch (JMException e) {
+            LOG.warn("Cannot register executor MBean", e);
+        }
+    }
+
+    private void unregisterMBean() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (JMException e) {
+                LOG.debug("Cannot unregister executor MBean: {}", objectName, e);
+            }
+            objectName = null;
+        }
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        ThreadPoolExecutor current = executor;
+        if (current == null) {
+            synchronized (this) {
+                current = executor;
+                if (current == null) {
+                    current = createExecutor();
+                    executor = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    protected ThreadPoolExecutor createExecutor() {
+        ThreadFactory threadFactory = createThreadFactory();
+        if (maxThreads <= 0) {
+            LOG.debug("Creating executor with unlimited number of threads");
+            return new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+        }
+
+        LOG.debug("Creating executor with up to {} threads and queue capacity: {}", maxThreads, queueCapacity);
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new LinkedBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, queue, threadFactory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
 
-    public StrutsExecutorProvider() {
-        this.executor = Executors.newFixedThreadPool(2);
+    protected ThreadFactory createThreadFactory() {
+        if (virtualThreads) {
+            try {
+                // Thread.ofVirtual() is available since JDK 21
+                Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "struts-background-", 0L);
+                return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            } catch (ReflectiveOperationException e) {
+                LOG.warn("Virtual threads are not supported by this JDK, falling back to platform threads");
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        return task -> new Thread(task, "struts-background-" + threadNumber.getAndIncrement());
     }
 
     @Override
     public void execute(Runnable task) {
         LOG.debug("Executing task: {}", task);
-        executor.execute(task);
+        long submittedAt = System.nanoTime();
+        try {
+            getExecutor().execute(() -> runTask(task, submittedAt));
+            submittedCount.increment();
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            LOG.debug("Task: {} has been rejected, active threads: {}, queue depth: {}", task, getActiveCount(), getQueueDepth());
+            throw e;
+        }
+    }
+
+    private void runTask(Runnable task, long submittedAt) {
+        long latency = System.nanoTime() - submittedAt;
+        queueLatencyNanos.add(latency);
+        maxQueueLatencyNanos.accumulateAndGet(latency, Math::max);
+        startedCount.increment();
+        WORKER_THREAD.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            WORKER_THREAD.remove();
+            completedCount.increment();
+        }
+    }
+
+    /**
+     * @return true if the current thread executes a task of a {@link StrutsExecutorProvider}
+     */
+    static boolean isWorkerThread() {
+        return WORKER_THREAD.get() != null;
     }
 
     @Override
     public boolean isShutdown() {
-        return executor.isShutdown();
+        return getExecutor().isShutdown();
     }
 
     @Override
     public void shutdown() {
         LOG.debug("Shutting down executor");
-        executor.shutdown();
+        getExecutor().shutdown();
+        unregisterMBean();
+    }
+
+    /**
+     * @return number of background processes waiting for a thread
+     * @since 7.1.1
+     */
+    @Override
+    public int getQueueDepth() {
+        return getExecutor().getQueue().size();
+    }
+
+    /**
+     * @return number of threads running background processes
+     * @since 7.1.1
+     */
+    @Override
+    public int getActiveCount() {
+        return getExecutor().getActiveCount();
+    }
+
+    /**
+     * @return number of accepted background processes
+     * @since 7.1.1
+     */
+    @Override
+    public long getSubmittedCount() {
+        return submittedCount.sum();
+    }
+
+    /**
+     * @return number of background processes rejected as no thread or place in the queue was available
+     * @since 7.1.1
+     */
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * @return number of finished background processes
+     * @since 7.1.1
+     */
+    @Override
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    /**
+     * @return average time in millis background processes waited for a thread
+     * @since 7.1.1
+     */
+    @Override
+    public double getAverageQueueLatency() {
+        long started = startedCount.sum();
+        return started > 0 ? queueLatencyNanos.sum() / (started * 1_000_000.0) : 0;
+    }
+
+    /**
+     * @return the longest time in millis a background process waited for a thread
+     * @since 7.1.1
+     */
+    @Override
+    public double getMaxQueueLatency() {
+        return maxQueueLatencyNanos.get() / 1_000_000.0;
     }
 }
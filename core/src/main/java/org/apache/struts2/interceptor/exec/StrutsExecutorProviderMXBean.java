@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+/**
+ * JMX view of {@link StrutsExecutorProvider}
+ *
+ * @since 7.1.1
+ */
+public interface StrutsExecutorProviderMXBean {
+
+    /**
+     * @return number of background processes waiting for a thread
+     */
+    int getQueueDepth();
+
+    /**
+     * @return number of threads running background processes
+     */
+    int getActiveCount();
+
+    /**
+     * @return number of accepted background processes
+     */
+    long getSubmittedCount();
+
+    /**
+     * @return number of background processes rejected as no thread or place in the queue was available
+     */
+    long getRejectedCount();
+
+    /**
+     * @return number of finished background processes
+     */
+    long getCompletedCount();
+
+    /**
+     * @return average time in millis background processes waited for a thread
+     */
+    double getAverageQueueLatency();
+
+    /**
+     * @return the longest time in millis a background process waited for a thread
+     */
+    double getMaxQueueLatency();
+}
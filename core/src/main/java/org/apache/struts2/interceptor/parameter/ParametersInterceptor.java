@@ -32,6 +32,9 @@ import org.apache.struts2.dispatcher.HttpParameters;
 import org.apache.struts2.dispatcher.Parameter;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.interceptor.MethodFilterInterceptor;
+import org.apache.struts2.ognl.DefaultOgnlCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+import org.apache.struts2.ognl.OgnlCacheFactory;
 import org.apache.struts2.ognl.OgnlUtil;
 import org.apache.struts2.ognl.ThreadAllowlist;
 import org.apache.struts2.security.AcceptedPatternsChecker;
@@ -75,6 +78,13 @@ import static org.apache.struts2.util.DebugUtils.notifyDeveloperOfError;
 
 /**
  * This interceptor sets all parameters on the value stack.
+ * <p>
+ * Outside of devMode, successful checks of a parameter name are remembered: names which were accepted by
+ * the length limit and the accepted/excluded patterns, and per action class and shape of the parameter (its root
+ * property and nesting depth) that a matching member is annotated with {@link StrutsParameter}, together with
+ * the classes it allowlists. Repeated submissions of the same form skip the pattern matching and reflection.
+ * Rejected names are never remembered and both caches evict entries once they reach
+ * {@link #setParameterPlanCacheSize(int)}, so unknown names sent by clients can't fill them.
  */
 public class ParametersInterceptor extends MethodFilterInterceptor {
 
@@ -82,9 +92,12 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
 
     protected static final int PARAM_NAME_MAX_LENGTH = 100;
 
+    protected static final int PARAMETER_PLAN_CACHE_SIZE = 1000;
+
     private static final Pattern DMI_IGNORED_PATTERN = Pattern.compile("^(action|method):.*", Pattern.CASE_INSENSITIVE);
 
     private int paramNameMaxLength = PARAM_NAME_MAX_LENGTH;
+    private int parameterPlanCacheSize = PARAMETER_PLAN_CACHE_SIZE;
     private boolean devMode = false;
     private boolean dmiEnabled = false;
 
@@ -100,6 +113,16 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     private Set<Pattern> excludedValuePatterns = null;
     private Set<Pattern> acceptedValuePatterns = null;
 
+    private OgnlCache<String, Boolean> acceptedNames = buildParameterPlanCache(PARAMETER_PLAN_CACHE_SIZE);
+    private OgnlCache<MemberShape, Set<Class<?>>> memberPlans = buildParameterPlanCache(PARAMETER_PLAN_CACHE_SIZE);
+    private final ThreadLocal<Set<Class<?>>> allowlistRecorder = new ThreadLocal<>();
+
+    /**
+     * Action class, root property of a parameter and its nesting depth, which is all the annotation check depends on
+     */
+    private record MemberShape(Class<?> actionClass, String rootProperty, long depth) {
+    }
+
     @Inject
     public void setValueStackFactory(ValueStackFactory valueStackFactory) {
         this.valueStackFactory = valueStackFactory;
@@ -149,16 +172,19 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     @Inject
     public void setExcludedPatterns(ExcludedPatternsChecker excludedPatterns) {
         this.excludedPatterns = excludedPatterns;
+        this.acceptedNames.clear();
     }
 
     @Inject
     public void setAcceptedPatterns(AcceptedPatternsChecker acceptedPatterns) {
         this.acceptedPatterns = acceptedPatterns;
+        this.acceptedNames.clear();
     }
 
     @Inject(value = StrutsConstants.STRUTS_ENABLE_DYNAMIC_METHOD_INVOCATION, required = false)
     protected void setDynamicMethodInvocation(String dmiEnabled) {
         this.dmiEnabled = Boolean.parseBoolean(dmiEnabled);
+        this.acceptedNames.clear();
     }
 
     /**
@@ -169,6 +195,24 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      */
     public void setParamNameMaxLength(int paramNameMaxLength) {
         this.paramNameMaxLength = paramNameMaxLength;
+        this.acceptedNames.clear();
+    }
+
+    /**
+     * Maximum number of accepted parameter names and of annotated parameter shapes to remember, least valuable
+     * entries are evicted once reached, 0 disables the caching.
+     *
+     * @param parameterPlanCacheSize maximum number of cached entries
+     * @since 7.1.1
+     */
+    public void setParameterPlanCacheSize(int parameterPlanCacheSize) {
+        this.parameterPlanCacheSize = parameterPlanCacheSize;
+        this.acceptedNames = buildParameterPlanCache(parameterPlanCacheSize);
+        this.memberPlans = buildParameterPlanCache(parameterPlanCacheSize);
+    }
+
+    private static <K, V> OgnlCache<K, V> buildParameterPlanCache(int maxSize) {
+        return new DefaultOgnlCacheFactory<K, V>(Math.max(maxSize, 0), OgnlCacheFactory.CacheType.WTLFU).buildOgnlCache();
     }
 
     static private int countOGNLCharacters(String s) {
@@ -370,7 +414,39 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
         String rootProperty = nestingIndex == -1 ? name : name.substring(0, nestingIndex);
         String normalisedRootProperty = Character.toLowerCase(rootProperty.charAt(0)) + rootProperty.substring(1);
 
-        return hasValidAnnotatedMember(normalisedRootProperty, action, paramDepth);
+        return hasValidAnnotatedMemberPlan(normalisedRootProperty, action, paramDepth);
+    }
+
+    /**
+     * Applies the remembered successful outcome of {@link #hasValidAnnotatedMember(String, Object, long)} for the action class
+     * and shape of the parameter, or resolves it and records classes passed to {@link #allowlistClass(Class)},
+     * so they can be allowlisted again by the following requests.
+     */
+    private boolean hasValidAnnotatedMemberPlan(String rootProperty, Object action, long paramDepth) {
+        if (devMode || parameterPlanCacheSize <= 0) {
+            return hasValidAnnotatedMember(rootProperty, action, paramDepth);
+        }
+
+        MemberShape shape = new MemberShape(ultimateClass(action), rootProperty, paramDepth);
+        Set<Class<?>> planned = memberPlans.get(shape);
+        if (planned != null) {
+            planned.forEach(this::allowlistClass);
+            return true;
+        }
+
+        Set<Class<?>> allowlist = new HashSet<>();
+        boolean valid;
+        allowlistRecorder.set(allowlist);
+        try {
+            valid = hasValidAnnotatedMember(rootProperty, action, paramDepth);
+        } finally {
+            allowlistRecorder.remove();
+        }
+        if (valid) {
+            // rejected shapes are not remembered, they may name members which don't exist on the action
+            memberPlans.put(shape, Set.copyOf(allowlist));
+        }
+        return valid;
     }
 
     /**
@@ -451,6 +527,10 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
     }
 
     protected void allowlistClass(Class<?> clazz) {
+        Set<Class<?>> recorded = allowlistRecorder.get();
+        if (recorded != null) {
+            recorded.add(clazz);
+        }
         threadAllowlist.allowClassHierarchy(clazz);
     }
 
@@ -577,6 +657,9 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      * @return true if accepted
      */
     protected boolean isAcceptableName(String name) {
+        if (acceptedNames.get(name) != null) {
+            return true;
+        }
         if (isIgnoredDMI(name)) {
             LOG.trace("DMI is enabled, ignoring DMI method: {}", name);
             return false;
@@ -584,6 +667,9 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
         boolean accepted = isWithinLengthLimit(name) && !isExcluded(name) && isAccepted(name);
         if (devMode && accepted) {
             LOG.debug("Parameter [{}] was accepted and will be appended to action!", name);
+        } else if (accepted && parameterPlanCacheSize > 0) {
+            // only accepted names are remembered, rejected ones are checked and reported again
+            acceptedNames.put(name, Boolean.TRUE);
         }
         return accepted;
     }
@@ -741,6 +827,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      */
     public void setAcceptParamNames(String commaDelim) {
         acceptedPatterns.setAcceptedPatterns(commaDelim);
+        acceptedNames.clear();
     }
 
     /**
@@ -751,6 +838,7 @@ public class ParametersInterceptor extends MethodFilterInterceptor {
      */
     public void setExcludeParams(String commaDelim) {
         excludedPatterns.setExcludedPatterns(commaDelim);
+        acceptedNames.clear();
     }
 
     /**
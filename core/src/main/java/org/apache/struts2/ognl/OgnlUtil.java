@@ -19,6 +19,7 @@
 package org.apache.struts2.ognl;
 
 import ognl.ClassResolver;
+import ognl.MemberAccess;
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
@@ -44,6 +45,8 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.Objects.requireNonNull;
 import static org.apache.struts2.ognl.OgnlGuard.EXPR_BLOCKED;
@@ -59,8 +62,11 @@ public class OgnlUtil {
 
     private static final Logger LOG = LogManager.getLogger(OgnlUtil.class);
 
+    private static final int PROPERTY_COPIERS_CACHE_SIZE = 1000;
+
     private final OgnlCache<String, Object> expressionCache;
     private final OgnlCache<Class<?>, BeanInfo> beanInfoCache;
+    private final ConcurrentMap<PropertyCopier.Key, PropertyCopier> propertyCopiers = new ConcurrentHashMap<>();
     private TypeConverter defaultConverter;
     private final OgnlGuard ognlGuard;
 
@@ -192,6 +198,7 @@ public class OgnlUtil {
      */
     public void clearBeanInfoCache() {
         beanInfoCache.clear();
+        propertyCopiers.clear();
     }
 
     /**
@@ -537,56 +544,55 @@ public class OgnlUtil {
         final Map<String, Object> contextFrom = createDefaultContext(from);
         final Map<String, Object> contextTo = createDefaultContext(to);
 
-        PropertyDescriptor[] fromPds;
-        PropertyDescriptor[] toPds;
-
+        PropertyCopier copier;
         try {
-            fromPds = getPropertyDescriptors(from);
-            if (editable != null) {
-                toPds = getPropertyDescriptors(editable);
-            } else {
-                toPds = getPropertyDescriptors(to);
-            }
+            copier = getPropertyCopier(from.getClass(), editable != null ? editable : to.getClass(), exclusions, inclusions);
         } catch (IntrospectionException e) {
             LOG.error("An error occurred", e);
             return;
         }
 
-        Map<String, PropertyDescriptor> toPdHash = new HashMap<>();
-
-        for (PropertyDescriptor toPd : toPds) {
-            toPdHash.put(toPd.getName(), toPd);
-        }
-
-        for (PropertyDescriptor fromPd : fromPds) {
-            if (fromPd.getReadMethod() == null) {
-                continue;
-            }
-
-            if (exclusions != null && exclusions.contains(fromPd.getName()) ||
-                    inclusions != null && !inclusions.contains(fromPd.getName())) {
-                continue;
-            }
-
-            PropertyDescriptor toPd = toPdHash.get(fromPd.getName());
-            if (toPd == null || toPd.getWriteMethod() == null) {
-                continue;
-            }
+        MemberAccess memberAccessFrom = ((OgnlContext) contextFrom).getMemberAccess();
+        MemberAccess memberAccessTo = ((OgnlContext) contextTo).getMemberAccess();
 
+        for (PropertyCopier.CopiedProperty property : copier.getProperties()) {
+            String name = property.getName();
             try {
-                Object value = ognlGet(fromPd.getName(),
-                        contextFrom,
-                        from,
-                        null,
-                        context,
-                        this::checkEnableEvalExpression);
-                ognlSet(fromPd.getName(), contextTo, to, value, context);
+                Object value;
+                if (property.hasGetter() && memberAccessFrom.isAccessible(contextFrom, from, property.getReadMethod(), name)) {
+                    value = property.get(from);
+                } else {
+                    value = ognlGet(name, contextFrom, from, null, context, this::checkEnableEvalExpression);
+                }
+
+                if (property.canSet(to, value) && memberAccessTo.isAccessible(contextTo, to, property.getWriteMethod(), name)) {
+                    property.set(to, value);
+                } else {
+                    ognlSet(name, contextTo, to, value, context);
+                }
             } catch (OgnlException e) {
                 LOG.debug("Got OGNL exception", e);
             }
         }
     }
 
+    /**
+     * Returns properties to copy from the class to the other class, cached per classes and inclusions/exclusions
+     */
+    private PropertyCopier getPropertyCopier(Class<?> fromClass, Class<?> toClass,
+                                             Collection<String> exclusions, Collection<String> inclusions) throws IntrospectionException {
+        PropertyCopier.Key key = PropertyCopier.key(fromClass, toClass, exclusions, inclusions);
+        PropertyCopier copier = propertyCopiers.get(key);
+        if (copier == null) {
+            copier = PropertyCopier.create(key, getPropertyDescriptors(fromClass), getPropertyDescriptors(toClass));
+            if (propertyCopiers.size() >= PROPERTY_COPIERS_CACHE_SIZE) {
+                propertyCopiers.clear();
+            }
+            propertyCopiers.putIfAbsent(key, copier);
+        }
+        return copier;
+    }
+
 
     /**
      * Copies the properties in the object "from" and sets them in the object "to"
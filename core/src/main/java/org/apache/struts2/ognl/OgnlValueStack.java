@@ -19,6 +19,7 @@
 package org.apache.struts2.ognl;
 
 import org.apache.struts2.ActionContext;
+import org.apache.struts2.ActionContextMap;
 import org.apache.struts2.text.TextProvider;
 import org.apache.struts2.conversion.impl.XWorkConverter;
 import org.apache.struts2.inject.Container;
@@ -121,7 +122,9 @@ public class OgnlValueStack implements Serializable, ValueStack, ClearableValueS
     protected void setRoot(XWorkConverter xworkConverter, RootAccessor accessor, CompoundRoot compoundRoot, SecurityMemberAccess securityMemberAccess) {
         this.root = compoundRoot;
         this.securityMemberAccess = securityMemberAccess;
-        this.context = Ognl.createDefaultContext(this.root, securityMemberAccess, accessor, new OgnlTypeConverterWrapper(xworkConverter));
+        OgnlTypeConverterWrapper typeConverter = new OgnlTypeConverterWrapper(xworkConverter);
+        OgnlContext ognlContext = new OgnlContext(securityMemberAccess, accessor, typeConverter, new ActionContextMap());
+        this.context = Ognl.addDefaultContext(this.root, securityMemberAccess, accessor, typeConverter, ognlContext);
         this.converter = xworkConverter;
         context.put(VALUE_STACK, this);
         ((OgnlContext) context).setTraceEvaluations(false);
@@ -47,6 +47,10 @@ public class OgnlValueStackFactory implements ValueStackFactory {
     protected RootAccessor compoundRootAccessor;
     protected TextProvider textProvider;
     protected Container container;
+    protected OgnlUtil ognlUtil;
+    protected String devMode;
+    protected String logMissingProperties;
+    protected String shouldFallbackToContext;
 
     @Inject
     protected void setXWorkConverter(XWorkConverter converter) {
@@ -70,6 +74,26 @@ public class OgnlValueStackFactory implements ValueStackFactory {
         this.textProvider = textProvider;
     }
 
+    @Inject
+    protected void setOgnlUtil(OgnlUtil ognlUtil) {
+        this.ognlUtil = ognlUtil;
+    }
+
+    @Inject(StrutsConstants.STRUTS_DEVMODE)
+    protected void setDevMode(String devMode) {
+        this.devMode = devMode;
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_LOG_MISSING_PROPERTIES, required = false)
+    protected void setLogMissingProperties(String logMissingProperties) {
+        this.logMissingProperties = logMissingProperties;
+    }
+
+    @Inject(value = StrutsConstants.STRUTS_OGNL_VALUE_STACK_FALLBACK_TO_CONTEXT, required = false)
+    protected void setShouldFallbackToContext(String shouldFallbackToContext) {
+        this.shouldFallbackToContext = shouldFallbackToContext;
+    }
+
     @Override
     public ValueStack createValueStack() {
         return createValueStack(null, true);
@@ -80,11 +104,44 @@ public class OgnlValueStackFactory implements ValueStackFactory {
         return createValueStack(stack, false);
     }
 
+    /**
+     * Creates a pre-wired stack, its OGNL context is populated eagerly: it only holds the root, member access,
+     * type converter and the stack itself, and every caller writes request entries into it right away.
+     *
+     * @param stack           stack to copy the root from, may be null
+     * @param useTextProvider whether to push the default {@link TextProvider}
+     * @return the new value stack
+     */
     protected ValueStack createValueStack(ValueStack stack, boolean useTextProvider) {
-        ValueStack newStack = new OgnlValueStack(
+        OgnlValueStack newStack = new OgnlValueStack(
                 stack, xworkConverter, compoundRootAccessor, useTextProvider ? textProvider : null, container.getInstance(SecurityMemberAccess.class));
-        container.inject(newStack);
-        return newStack.getActionContext().withContainer(container).withValueStack(newStack).getValueStack();
+        injectValueStack(newStack);
+        newStack.getActionContext().withContainer(container);
+        return newStack;
+    }
+
+    /**
+     * Wires a newly created stack with the dependencies this factory resolved once during its own injection, so
+     * creating a stack per request (or per copy) doesn't pay for a reflective {@link Container#inject(Object)}.
+     * Subclasses of {@link OgnlValueStack} may declare additional injection points and are still injected by
+     * the container.
+     *
+     * @param stack the newly created value stack
+     * @since 7.1.1
+     */
+    protected void injectValueStack(OgnlValueStack stack) {
+        if (stack.getClass() != OgnlValueStack.class) {
+            container.inject(stack);
+            return;
+        }
+        stack.setOgnlUtil(ognlUtil);
+        stack.setDevMode(devMode);
+        if (logMissingProperties != null) {
+            stack.setLogMissingProperties(logMissingProperties);
+        }
+        if (shouldFallbackToContext != null) {
+            stack.setShouldFallbackToContext(shouldFallbackToContext);
+        }
     }
 
     /**
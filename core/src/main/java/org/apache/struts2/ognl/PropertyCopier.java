@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.ognl;
+
+import ognl.MethodFailedException;
+import ognl.OgnlException;
+import ognl.OgnlRuntime;
+import ognl.PropertyAccessor;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Properties copied by {@link OgnlUtil#copy(Object, Object, Map, Collection, Collection, Class)} between two classes,
+ * resolved once per source class, target class and inclusions/exclusions. Readable properties of plain beans are
+ * read and written through {@link MethodHandle}s, any value which needs a type conversion and properties of objects
+ * handled by a custom OGNL {@link PropertyAccessor} (maps, collections, ...) are copied using OGNL.
+ */
+final class PropertyCopier {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final List<CopiedProperty> properties;
+
+    private PropertyCopier(List<CopiedProperty> properties) {
+        this.properties = properties;
+    }
+
+    static Key key(Class<?> fromClass, Class<?> toClass, Collection<String> exclusions, Collection<String> inclusions) {
+        return new Key(fromClass, toClass, toSet(exclusions), toSet(inclusions));
+    }
+
+    private static Set<String> toSet(Collection<String> names) {
+        return names == null ? null : Collections.unmodifiableSet(new HashSet<>(names));
+    }
+
+    /**
+     * Matches readable properties of the source with writable properties of the target, in order of the source
+     * property descriptors
+     */
+    static PropertyCopier create(Key key, PropertyDescriptor[] fromPds, PropertyDescriptor[] toPds) {
+        Map<String, PropertyDescriptor> toPdHash = new HashMap<>();
+        for (PropertyDescriptor toPd : toPds) {
+            toPdHash.put(toPd.getName(), toPd);
+        }
+
+        boolean beans = isBean(key.fromClass()) && isBean(key.toClass());
+        List<CopiedProperty> properties = new ArrayList<>();
+        for (PropertyDescriptor fromPd : fromPds) {
+            if (fromPd.getReadMethod() == null) {
+                continue;
+            }
+
+            String name = fromPd.getName();
+            if (key.exclusions() != null && key.exclusions().contains(name) ||
+                    key.inclusions() != null && !key.inclusions().contains(name)) {
+                continue;
+            }
+
+            PropertyDescriptor toPd = toPdHash.get(name);
+            if (toPd == null || toPd.getWriteMethod() == null) {
+                continue;
+            }
+
+            Method readMethod = fromPd.getReadMethod();
+            Method writeMethod = toPd.getWriteMethod();
+            MethodHandle getter = beans ? unreflect(readMethod, GETTER_TYPE) : null;
+            MethodHandle setter = beans && !isOverloaded(key.toClass(), writeMethod) ? unreflect(writeMethod, SETTER_TYPE) : null;
+            properties.add(new CopiedProperty(name, readMethod, writeMethod, getter, setter));
+        }
+        return new PropertyCopier(List.copyOf(properties));
+    }
+
+    /**
+     * @return true if OGNL accesses properties of the class the same way as of any other object, as a java bean
+     */
+    private static boolean isBean(Class<?> clazz) {
+        try {
+            PropertyAccessor accessor = OgnlRuntime.getPropertyAccessor(clazz);
+            PropertyAccessor objectAccessor = OgnlRuntime.getPropertyAccessor(Object.class);
+            return accessor != null && objectAccessor != null && accessor.getClass() == objectAccessor.getClass();
+        } catch (OgnlException e) {
+            return false;
+        }
+    }
+
+    /**
+     * OGNL picks one of overloaded setters depending on the value, leave the choice to OGNL
+     */
+    private static boolean isOverloaded(Class<?> toClass, Method writeMethod) {
+        return Arrays.stream(toClass.getMethods())
+                .filter(method -> method.getName().equals(writeMethod.getName()))
+                .filter(method -> method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers()))
+                .count() > 1;
+    }
+
+    private static MethodHandle unreflect(Method method, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException e) {
+            // e.g. a public method of a non-public class, OGNL makes it accessible
+            return null;
+        }
+    }
+
+    List<CopiedProperty> getProperties() {
+        return properties;
+    }
+
+    record Key(Class<?> fromClass, Class<?> toClass, Set<String> exclusions, Set<String> inclusions) {
+    }
+
+    static final class CopiedProperty {
+
+        private final String name;
+        private final Method readMethod;
+        private final Method writeMethod;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Class<?> valueType;
+        private final boolean primitive;
+
+        private CopiedProperty(String name, Method readMethod, Method writeMethod, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.readMethod = readMethod;
+            this.writeMethod = writeMethod;
+            this.getter = getter;
+            this.setter = setter;
+            Class<?> parameterType = writeMethod.getParameterTypes()[0];
+            this.primitive = parameterType.isPrimitive();
+            this.valueType = ClassUtils.primitiveToWrapper(parameterType);
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Method getReadMethod() {
+            return readMethod;
+        }
+
+        Method getWriteMethod() {
+            return writeMethod;
+        }
+
+        boolean hasGetter() {
+            return getter != null;
+        }
+
+        /**
+         * @return true if the value can be passed to the setter as is, without type conversion
+         */
+        boolean canSet(Object target, Object value) {
+            return setter != null
+                    && writeMethod.getDeclaringClass().isInstance(target)
+                    && (value == null ? !primitive : valueType.isInstance(value));
+        }
+
+        Object get(Object source) throws OgnlException {
+            try {
+                return getter.invokeExact(source);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                // reported the same way as a failure of the method invoked by OGNL
+                throw new MethodFailedException(source, readMethod.getName(), t);
+            }
+        }
+
+        void set(Object target, Object value) throws OgnlException {
+            try {
+                setter.invokeExact(target, value);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new MethodFailedException(target, writeMethod.getName(), t);
+            }
+        }
+    }
+}
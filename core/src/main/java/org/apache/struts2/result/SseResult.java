@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.result;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.struts2.ActionInvocation;
+
+import java.io.Serial;
+import java.nio.charset.Charset;
+
+/**
+ * Streams items produced by the action as <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">Server-Sent Events</a>,
+ * see {@link StreamingResult} for supported sources of items.
+ * <p>
+ * An {@link Event} item is written with its id and event name, any other item is sent as the data of an unnamed event.
+ * </p>
+ *
+ * <b>This result type takes the following parameters:</b>
+ *
+ * <ul>
+ * <li><b>sourceName</b> - the name of the property exposing the events (default = <code>events</code>).</li>
+ * <li><b>retry</b> - the reconnection time in milliseconds sent to the client, not sent when not set.</li>
+ * <li><b>timeout</b> - the async timeout in milliseconds, <code>0</code> means no timeout (default = <code>0</code>).</li>
+ * </ul>
+ *
+ * <b>Example:</b>
+ *
+ * <pre>
+ * &lt;result name="success" type="sse"&gt;
+ *   &lt;param name="sourceName"&gt;updates&lt;/param&gt;
+ *   &lt;param name="retry"&gt;5000&lt;/param&gt;
+ * &lt;/result&gt;
+ * </pre>
+ *
+ * @since 7.1.1
+ */
+public class SseResult extends StreamingResult {
+
+    @Serial
+    private static final long serialVersionUID = -3180215744405472766L;
+
+    protected Long retry;
+    private transient boolean retrySent;
+
+    public SseResult() {
+        super();
+        sourceName = "events";
+        contentType = "text/event-stream";
+    }
+
+    public Long getRetry() {
+        return retry;
+    }
+
+    /**
+     * @param retry reconnection time in milliseconds
+     */
+    public void setRetry(Long retry) {
+        this.retry = retry;
+    }
+
+    @Override
+    protected void prepareResponse(HttpServletResponse response, ActionInvocation invocation) {
+        super.prepareResponse(response, invocation);
+        response.setHeader("Cache-Control", "no-cache");
+        // disables buffering by reverse proxies like nginx
+        response.setHeader("X-Accel-Buffering", "no");
+    }
+
+    @Override
+    protected byte[] format(Object item, Charset charset) {
+        StringBuilder sb = new StringBuilder();
+        if (retry != null && !retrySent) {
+            sb.append("retry: ").append(retry).append('\n');
+            retrySent = true;
+        }
+        Object data = item;
+        if (item instanceof Event event) {
+            if (event.id() != null) {
+                sb.append("id: ").append(event.id()).append('\n');
+            }
+            if (event.name() != null) {
+                sb.append("event: ").append(event.name()).append('\n');
+            }
+            data = event.data();
+        }
+        for (String line : String.valueOf(data).split("\r\n|\r|\n", -1)) {
+            sb.append("data: ").append(line).append('\n');
+        }
+        return sb.append('\n').toString().getBytes(charset);
+    }
+
+    /**
+     * A named event, the id and name can't contain line breaks as they would start new fields or events
+     * in the stream, the id can't contain NUL either as the client ignores such ids.
+     *
+     * @param id   id of the event, used by the client as the "Last-Event-ID" header when reconnecting, can be null
+     * @param name name of the event, can be null
+     * @param data data of the event
+     */
+    public record Event(String id, String name, Object data) {
+
+        public Event {
+            if (id != null && StringUtils.containsAny(id, '\r', '\n', '\0')) {
+                throw new IllegalArgumentException("Event id cannot contain CR, LF or NUL characters");
+            }
+            if (name != null && StringUtils.containsAny(name, '\r', '\n')) {
+                throw new IllegalArgumentException("Event name cannot contain CR or LF characters");
+            }
+        }
+
+        public static Event of(String name, Object data) {
+            return new Event(null, name, data);
+        }
+    }
+}
@@ -21,13 +21,22 @@ package org.apache.struts2.result;
 import org.apache.struts2.ActionInvocation;
 import org.apache.struts2.inject.Inject;
 import org.apache.struts2.security.NotExcludedAcceptedPatternsChecker;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serial;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * A custom Result type for sending raw data (via an InputStream) directly to the
@@ -43,10 +52,10 @@ import java.io.Serial;
  * <li><b>contentDisposition</b> - the content disposition header value for
  * specifing the file name (default = <code>inline</code>, values are typically
  * <i>attachment;filename="document.pdf"</i>.</li>
- * <li><b>inputName</b> - the name of the InputStream property from the chained
+ * <li><b>inputName</b> - the name of the InputStream, {@link Path} or {@link File} property from the chained
  * action (default = <code>inputStream</code>).</li>
- * <li><b>bufferSize</b> - the size of the buffer to copy from input to output
- * (default = <code>1024</code>).</li>
+ * <li><b>bufferSize</b> - the initial size of the buffer to copy from input to output, the buffer grows
+ * up to 64KB for large streams (default = <code>1024</code>).</li>
  * <li><b>allowCaching</b> if set to 'false' it will set the headers 'Pragma' and 'Cache-Control'
  * to 'no-cache', and prevent client from caching the content. (default = <code>true</code>)
  * <li><b>contentCharSet</b> if set to a string, ';charset=value' will be added to the
@@ -56,6 +65,13 @@ import java.io.Serial;
  * </ul>
  *
  * <p>
+ * When the property is a {@link Path} or a {@link File}, the file is transferred using {@link FileChannel#transferTo},
+ * its length, last modification time and ETag are sent and single byte ranges requested with the "Range" header
+ * (optionally guarded by "If-Range") are served with "206 Partial Content", which allows clients to resume
+ * downloads. A request with a matching "If-None-Match" header is answered with "304 Not Modified".
+ * </p>
+ *
+ * <p>
  * These parameters can also be set by exposing a similarly named getter method on your Action.  For example, you can
  * provide <code>getContentType()</code> to override that parameter for the current action.
  * </p>
@@ -80,6 +96,11 @@ public class StreamResult extends StrutsResultSupport {
 
     public static final String DEFAULT_PARAM = "inputName";
 
+    /**
+     * Maximum size the copy buffer grows to
+     */
+    protected static final int MAX_BUFFER_SIZE = 64 * 1024;
+
     protected String contentType = "text/plain";
     protected String contentLength;
     protected String contentDisposition = "inline";
@@ -218,13 +239,21 @@ public class StreamResult extends StrutsResultSupport {
             String parsedInputName = conditionalParse(inputName, invocation);
             boolean evaluated = parsedInputName != null && !parsedInputName.equals(inputName);
             boolean reevaluate = !evaluated || isAcceptableExpression(parsedInputName);
+            Path inputFile = null;
             if (inputStream == null && reevaluate) {
                 LOG.debug("Find the inputstream from the invocation variable stack");
-                inputStream = (InputStream) invocation.getStack().findValue(parsedInputName);
+                Object input = invocation.getStack().findValue(parsedInputName);
+                if (input instanceof Path path) {
+                    inputFile = path;
+                } else if (input instanceof File file) {
+                    inputFile = file.toPath();
+                } else {
+                    inputStream = (InputStream) input;
+                }
             }
 
-            if (inputStream == null) {
-                String msg = ("Can not find a java.io.InputStream with the name [" + parsedInputName + "] in the invocation stack. " +
+            if (inputStream == null && inputFile == null) {
+                String msg = ("Can not find a java.io.InputStream, java.nio.file.Path or java.io.File with the name [" + parsedInputName + "] in the invocation stack. " +
                     "Check the <param name=\"inputName\"> tag specified for this action is correct, not excluded and accepted.");
                 LOG.error(msg);
                 throw new IllegalArgumentException(msg);
@@ -241,7 +270,7 @@ public class StreamResult extends StrutsResultSupport {
             }
 
             LOG.debug("Set the content length: {}", contentLength);
-            if (contentLength != null) {
+            if (contentLength != null && inputFile == null) {
                 String translatedContentLength = conditionalParse(contentLength, invocation);
                 int contentLengthAsInt;
                 try {
@@ -266,6 +295,11 @@ public class StreamResult extends StrutsResultSupport {
                 oResponse.addHeader("Cache-Control", "no-cache");
             }
 
+            if (inputFile != null) {
+                streamFile(inputFile, invocation.getInvocationContext().getServletRequest(), oResponse);
+                return;
+            }
+
             oOutput = oResponse.getOutputStream();
 
             LOG.debug("Streaming result [{}] type=[{}] length=[{}] content-disposition=[{}] charset=[{}]",
@@ -277,6 +311,10 @@ public class StreamResult extends StrutsResultSupport {
             while (-1 != (iSize = inputStream.read(oBuff))) {
                 LOG.debug("Sending stream ... {}", iSize);
                 oOutput.write(oBuff, 0, iSize);
+                if (iSize == oBuff.length && oBuff.length < MAX_BUFFER_SIZE) {
+                    // the stream fills the whole buffer, use a larger one to reduce number of reads and writes
+                    oBuff = new byte[Math.min(oBuff.length * 2, MAX_BUFFER_SIZE)];
+                }
             }
             LOG.debug("Streaming to output buffer +++ END +++");
 
@@ -292,6 +330,144 @@ public class StreamResult extends StrutsResultSupport {
         }
     }
 
+    /**
+     * Sends the file, or a single range of it when requested with "Range" header, using {@link FileChannel#transferTo}
+     * which avoids copying the content through the heap when supported by the target channel.
+     *
+     * @param file     the file to send
+     * @param request  current request, can be null
+     * @param response current response
+     * @throws IOException when reading the file or writing the response fails
+     * @since 7.1.1
+     */
+    protected void streamFile(Path file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader("ETag", etag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Accept-Ranges", "bytes");
+
+        if (request != null && matchesEtag(request.getHeader("If-None-Match"), etag)) {
+            LOG.debug("File [{}] not modified, ETag: {}", file, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request != null ? request.getHeader("Range") : null;
+        if (range != null && isIfRangeSatisfied(request, etag, lastModified)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds != null && bounds.length == 0) {
+                LOG.debug("Range [{}] can not be satisfied for file [{}] of length {}", range, file, length);
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds != null) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        LOG.debug("Streaming file [{}] from {} to {} of length {}", file, start, end, length);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+             OutputStream out = response.getOutputStream()) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            while (count > 0) {
+                long sent = channel.transferTo(position, count, target);
+                if (sent <= 0) {
+                    LOG.warn("File [{}] has been truncated while streaming, {} bytes not sent", file, count);
+                    break;
+                }
+                position += sent;
+                count -= sent;
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Parses value of the "Range" header, only a single byte range is supported
+     *
+     * @param range  value of the header
+     * @param length length of the content
+     * @return first and last position of the range, an empty array if the range can not be satisfied
+     * or null if the header isn't a single valid byte range and the whole content should be sent
+     */
+    protected long[] parseRange(String range, long length) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || length == 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? length - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+                if (start >= length) {
+                    return new long[0];
+                }
+                if (end < start) {
+                    return null;
+                }
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            LOG.debug("Invalid Range header [{}], sending the whole content", range);
+            return null;
+        }
+    }
+
+    private boolean isIfRangeSatisfied(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // weak validators never match for ranges
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader("If-Range") / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if expression doesn't contain vulnerable code
      *
@@ -0,0 +1,381 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.result;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.ActionInvocation;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.BaseStream;
+
+/**
+ * A result which keeps the response open and writes items produced by the action as they arrive,
+ * each item is flushed to the client right after it was written.
+ * <p>
+ * The source of items is looked up on the value stack and can be a {@link Flow.Publisher},
+ * an {@link Iterator}, an {@link Iterable} or a {@link java.util.stream.Stream}. Items are written using
+ * the Servlet async I/O ({@link WriteListener}), so no thread is held while waiting for the next item or
+ * for a slow client, the next item is requested from a publisher once the previous one has been written.
+ * Iterators are pulled when the client is ready to accept more data, so they shouldn't block.
+ * When the request doesn't support async processing the items are written in the request thread.
+ * </p>
+ * <p>
+ * Works well together with the Async plugin: once the async action completed, the result is executed
+ * in the dispatched request and starts a new async cycle for streaming.
+ * </p>
+ *
+ * <b>This result type takes the following parameters:</b>
+ *
+ * <ul>
+ * <li><b>sourceName</b> - the name of the property exposing the items (default = <code>stream</code>).</li>
+ * <li><b>contentType</b> - the mime-type of the response (default = <code>text/plain</code>).</li>
+ * <li><b>contentCharSet</b> - the charset used to encode items and added to the content type
+ * (default = <code>UTF-8</code>).</li>
+ * <li><b>timeout</b> - the async timeout in milliseconds, <code>0</code> means no timeout (default = <code>0</code>).</li>
+ * </ul>
+ *
+ * <b>Example:</b>
+ *
+ * <pre>
+ * &lt;result name="success" type="streaming"&gt;
+ *   &lt;param name="sourceName"&gt;lines&lt;/param&gt;
+ *   &lt;param name="timeout"&gt;60000&lt;/param&gt;
+ * &lt;/result&gt;
+ * </pre>
+ *
+ * @since 7.1.1
+ */
+public class StreamingResult extends StrutsResultSupport {
+
+    @Serial
+    private static final long serialVersionUID = 5049282410371526235L;
+
+    private static final Logger LOG = LogManager.getLogger(StreamingResult.class);
+
+    public static final String DEFAULT_PARAM = "sourceName";
+
+    protected String sourceName = "stream";
+    protected String contentType = "text/plain";
+    protected String contentCharSet = "UTF-8";
+    protected long timeout;
+
+    public StreamingResult() {
+        super();
+    }
+
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    /**
+     * @param sourceName name of the property exposing the items
+     */
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentCharSet() {
+        return contentCharSet;
+    }
+
+    public void setContentCharSet(String contentCharSet) {
+        this.contentCharSet = contentCharSet;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * @param timeout async timeout in milliseconds, 0 means no timeout
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected void doExecute(String finalLocation, ActionInvocation invocation) throws Exception {
+        Object source = sourceName == null ? null : invocation.getStack().findValue(sourceName);
+        Flow.Publisher<?> publisher = toPublisher(source);
+        if (publisher == null) {
+            String msg = "Can not find a Flow.Publisher, Iterator, Iterable or Stream with the name [" + sourceName + "] in the invocation stack. " +
+                    "Check the <param name=\"sourceName\"> tag specified for this action is correct.";
+            LOG.error(msg);
+            throw new IllegalArgumentException(msg);
+        }
+
+        HttpServletRequest request = invocation.getInvocationContext().getServletRequest();
+        HttpServletResponse response = invocation.getInvocationContext().getServletResponse();
+        Charset charset = Charset.forName(conditionalParse(contentCharSet, invocation));
+        prepareResponse(response, invocation);
+
+        if (request.isAsyncSupported()) {
+            AsyncContext asyncContext = request.startAsync(request, response);
+            asyncContext.setTimeout(timeout);
+            StreamWriter writer = new StreamWriter(response.getOutputStream(), charset, asyncContext);
+            asyncContext.addListener(writer);
+            publisher.subscribe(writer);
+            response.getOutputStream().setWriteListener(writer);
+        } else {
+            LOG.debug("Async processing isn't supported, streaming in the request thread");
+            StreamWriter writer = new StreamWriter(response.getOutputStream(), charset, null);
+            publisher.subscribe(writer);
+            writer.awaitCompletion(timeout);
+        }
+    }
+
+    /**
+     * Sets headers of the response before the first item is written
+     */
+    protected void prepareResponse(HttpServletResponse response, ActionInvocation invocation) {
+        response.setContentType(conditionalParse(contentType, invocation) + ";charset=" + conditionalParse(contentCharSet, invocation));
+    }
+
+    /**
+     * Converts an item produced by the action into bytes written to the response
+     *
+     * @param item    the item
+     * @param charset charset of the response
+     * @return bytes to write
+     */
+    protected byte[] format(Object item, Charset charset) {
+        if (item instanceof byte[] bytes) {
+            return bytes;
+        }
+        return String.valueOf(item).getBytes(charset);
+    }
+
+    protected Flow.Publisher<?> toPublisher(Object source) {
+        if (source instanceof Flow.Publisher<?> publisher) {
+            return publisher;
+        }
+        if (source instanceof Iterator<?> iterator) {
+            return new IteratorPublisher(iterator);
+        }
+        if (source instanceof Iterable<?> iterable) {
+            return new IteratorPublisher(iterable.iterator());
+        }
+        if (source instanceof BaseStream<?, ?> stream) {
+            return new IteratorPublisher(stream.iterator());
+        }
+        return null;
+    }
+
+    /**
+     * Publishes items of an iterator on demand, in the thread requesting them
+     */
+    private record IteratorPublisher(Iterator<?> iterator) implements Flow.Publisher<Object> {
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Object> subscriber) {
+            AtomicBoolean cancelled = new AtomicBoolean();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    try {
+                        for (long i = 0; i < n && !cancelled.get(); i++) {
+                            if (!iterator.hasNext()) {
+                                cancelled.set(true);
+                                subscriber.onComplete();
+                                return;
+                            }
+                            subscriber.onNext(iterator.next());
+                        }
+                    } catch (RuntimeException e) {
+                        cancelled.set(true);
+                        subscriber.onError(e);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        }
+    }
+
+    /**
+     * Writes items one by one: an item is requested from the publisher once the previous one was written
+     * and the output stream is ready. The drain loop is entered by one thread at a time, calls made
+     * by other threads meanwhile are picked up by the running loop.
+     */
+    private final class StreamWriter implements Flow.Subscriber<Object>, WriteListener, AsyncListener {
+
+        private final ServletOutputStream out;
+        private final Charset charset;
+        private final AsyncContext asyncContext;
+
+        private final Queue<Object> items = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile Flow.Subscription subscription;
+        private volatile boolean sourceCompleted;
+        private volatile boolean writePossible;
+        private boolean requested;
+        private volatile boolean closed;
+
+        private StreamWriter(ServletOutputStream out, Charset charset, AsyncContext asyncContext) {
+            this.out = out;
+            this.charset = charset;
+            this.asyncContext = asyncContext;
+            this.writePossible = asyncContext == null;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            drain();
+        }
+
+        @Override
+        public void onNext(Object item) {
+            items.offer(item);
+            drain();
+        }
+
+        /**
+         * Called either by the publisher or by the container when writing failed
+         */
+        @Override
+        public void onError(Throwable throwable) {
+            LOG.warn("Streaming failed, closing the response", throwable);
+            close(true);
+        }
+
+        @Override
+        public void onComplete() {
+            sourceCompleted = true;
+            drain();
+        }
+
+        @Override
+        public void onWritePossible() {
+            writePossible = true;
+            drain();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            LOG.debug("Streaming failed", event.getThrowable());
+            close(false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            LOG.debug("Streaming timed out after {}ms", timeout);
+            close(true);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            close(false);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private boolean isReady() {
+            return asyncContext == null || out.isReady();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                try {
+                    while (!closed && subscription != null && writePossible && isReady()) {
+                        Object item = items.poll();
+                        if (item != null) {
+                            requested = false;
+                            out.write(format(item, charset));
+                            if (isReady()) {
+                                out.flush();
+                            }
+                        } else if (sourceCompleted) {
+                            close(true);
+                        } else if (!requested) {
+                            requested = true;
+                            subscription.request(1);
+                        } else {
+                            break;
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    LOG.debug("Streaming to the client failed, closing the response", e);
+                    close(true);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private synchronized void close(boolean complete) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (!sourceCompleted && subscription != null) {
+                subscription.cancel();
+            }
+            if (asyncContext != null && complete) {
+                asyncContext.complete();
+            }
+            finished.countDown();
+        }
+
+        private void awaitCompletion(long timeout) throws InterruptedException, IOException {
+            if (timeout > 0) {
+                if (!finished.await(timeout, TimeUnit.MILLISECONDS)) {
+                    LOG.debug("Streaming timed out after {}ms", timeout);
+                    close(false);
+                }
+            } else {
+                finished.await();
+            }
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.security;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Set of patterns compiled into a single alternation, so a value is checked against all of them in one pass
+ * of the regex engine, with the verdicts of recently checked values kept in a bounded cache.
+ * <p>
+ * Each pattern is wrapped into its own capturing group to find out which one matched, the same one which
+ * would match first when testing the patterns one by one. Patterns which cannot be safely combined, as they use
+ * back references, quoting or different flags, are tested one by one instead.
+ *
+ * @param <V> type of the verdict
+ */
+final class CompiledPatterns<V> {
+
+    private static final Logger LOG = LogManager.getLogger(CompiledPatterns.class);
+
+    static final int VERDICT_CACHE_SIZE = 1000;
+    static final int MAX_CACHED_VALUE_LENGTH = 256;
+
+    private static final Pattern NOT_COMBINABLE = Pattern.compile("\\\\([1-9]|k<|Q)");
+
+    private final Set<Pattern> patterns;
+    private final Pattern[] alternatives;
+    private final int[] groups;
+    private final Pattern combined;
+
+    private final Function<Pattern, V> matched;
+    private final V notMatched;
+    private final Map<String, V> verdicts = new ConcurrentHashMap<>();
+
+    CompiledPatterns(Set<Pattern> patterns, Function<Pattern, V> matched, V notMatched) {
+        this.patterns = patterns;
+        this.alternatives = patterns.toArray(new Pattern[0]);
+        this.groups = new int[alternatives.length];
+        this.combined = combine();
+        this.matched = matched;
+        this.notMatched = notMatched;
+    }
+
+    /**
+     * @param patterns set of patterns
+     * @return true if these are the compiled patterns of the given set
+     */
+    boolean isFor(Set<Pattern> patterns) {
+        return this.patterns == patterns;
+    }
+
+    /**
+     * @param value value to check
+     * @return verdict for the pattern which fully matches the value or the not matched verdict
+     */
+    V check(String value) {
+        if (value.length() > MAX_CACHED_VALUE_LENGTH) {
+            return toVerdict(value);
+        }
+        V verdict = verdicts.get(value);
+        if (verdict == null) {
+            verdict = toVerdict(value);
+            if (verdicts.size() >= VERDICT_CACHE_SIZE) {
+                verdicts.clear();
+            }
+            verdicts.put(value, verdict);
+        }
+        return verdict;
+    }
+
+    private V toVerdict(String value) {
+        Pattern pattern = firstMatch(value);
+        if (pattern == null) {
+            return notMatched;
+        }
+        LOG.trace("[{}] matches pattern [{}]", value, pattern);
+        return matched.apply(pattern);
+    }
+
+    Pattern firstMatch(String value) {
+        if (combined == null) {
+            for (Pattern alternative : alternatives) {
+                if (alternative.matcher(value).matches()) {
+                    return alternative;
+                }
+            }
+            return null;
+        }
+        Matcher matcher = combined.matcher(value);
+        if (matcher.matches()) {
+            for (int i = 0; i < alternatives.length; i++) {
+                if (matcher.start(groups[i]) != -1) {
+                    return alternatives[i];
+                }
+            }
+        }
+        return null;
+    }
+
+    private Pattern combine() {
+        if (alternatives.length < 2) {
+            return null;
+        }
+        int flags = alternatives[0].flags();
+        int group = 1;
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < alternatives.length; i++) {
+            Pattern alternative = alternatives[i];
+            if (alternative.flags() != flags || NOT_COMBINABLE.matcher(alternative.pattern()).find()) {
+                LOG.debug("Pattern [{}] cannot be combined with other patterns, testing them one by one", alternative);
+                return null;
+            }
+            if (i > 0) {
+                regex.append('|');
+            }
+            regex.append('(').append(alternative.pattern()).append(')');
+            groups[i] = group;
+            group += alternative.matcher("").groupCount() + 1;
+        }
+        try {
+            Pattern pattern = Pattern.compile(regex.toString(), flags);
+            return pattern.matcher("").groupCount() == group - 1 ? pattern : null;
+        } catch (PatternSyntaxException e) {
+            LOG.debug("Patterns [{}] cannot be combined, testing them one by one", patterns, e);
+            return null;
+        }
+    }
+}
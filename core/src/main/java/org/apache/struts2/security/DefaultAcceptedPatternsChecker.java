@@ -52,6 +52,7 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
     };
 
     protected Set<Pattern> acceptedPatterns;
+    private volatile CompiledPatterns<IsAccepted> compiledPatterns;
 
     public DefaultAcceptedPatternsChecker() {
         setAcceptedPatterns(ACCEPTED_PATTERNS);
@@ -119,15 +120,18 @@ public class DefaultAcceptedPatternsChecker implements AcceptedPatternsChecker {
         }
     }
 
+    /**
+     * Checks the value against all the accepted patterns at once, verdicts of recently checked values are cached
+     */
     @Override
     public IsAccepted isAccepted(String value) {
-        for (Pattern acceptedPattern : acceptedPatterns) {
-            if (acceptedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches accepted pattern [{}]", value, acceptedPattern);
-                return IsAccepted.yes(acceptedPattern.toString());
-            }
+        CompiledPatterns<IsAccepted> compiled = compiledPatterns;
+        if (compiled == null || !compiled.isFor(acceptedPatterns)) {
+            Set<Pattern> patterns = acceptedPatterns;
+            compiled = new CompiledPatterns<>(patterns, pattern -> IsAccepted.yes(pattern.toString()), IsAccepted.no(patterns.toString()));
+            compiledPatterns = compiled;
         }
-        return IsAccepted.no(acceptedPatterns.toString());
+        return compiled.check(value);
     }
 
     @Override
@@ -43,6 +43,7 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
     };
 
     private Set<Pattern> excludedPatterns;
+    private volatile CompiledPatterns<IsExcluded> compiledPatterns;
 
     public DefaultExcludedPatternsChecker() {
         setExcludedPatterns(EXCLUDED_PATTERNS);
@@ -103,15 +104,18 @@ public class DefaultExcludedPatternsChecker implements ExcludedPatternsChecker {
         }
     }
 
+    /**
+     * Checks the value against all the excluded patterns at once, verdicts of recently checked values are cached
+     */
     @Override
     public IsExcluded isExcluded(String value) {
-        for (Pattern excludedPattern : excludedPatterns) {
-            if (excludedPattern.matcher(value).matches()) {
-                LOG.trace("[{}] matches excluded pattern [{}]", value, excludedPattern);
-                return IsExcluded.yes(excludedPattern);
-            }
+        CompiledPatterns<IsExcluded> compiled = compiledPatterns;
+        if (compiled == null || !compiled.isFor(excludedPatterns)) {
+            Set<Pattern> patterns = excludedPatterns;
+            compiled = new CompiledPatterns<>(patterns, IsExcluded::yes, IsExcluded.no(patterns));
+            compiledPatterns = compiled;
         }
-        return IsExcluded.no(excludedPatterns);
+        return compiled.check(value);
     }
 
     @Override
@@ -31,6 +31,8 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -62,10 +64,11 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     protected boolean reloadBundles = false;
     protected boolean searchDefaultBundlesFirst = false;  // Search default resource bundles first.  Note: This flag may not be meaningful to all implementations.
 
-    private final ConcurrentMap<MessageFormatKey, MessageFormat> messageFormats = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MessageFormatKey, MessageTemplate> messageTemplates = new ConcurrentHashMap<>();
     private final ConcurrentMap<Integer, List<String>> classLoaderMap = new ConcurrentHashMap<>();
     private final Set<String> missingBundles = ConcurrentHashMap.newKeySet();
     private final ConcurrentMap<Integer, ClassLoader> delegatedClassLoaderMap = new ConcurrentHashMap<>();
+    final ConcurrentMap<MessageIndexKey, MessageIndex> messageIndexes = new ConcurrentHashMap<>();
 
     @Override
     public void addDefaultResourceBundle(String bundleName) {
@@ -136,8 +139,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     public String findDefaultText(String textKey, Locale locale, Object[] params) {
         String defaultText = findDefaultText(textKey, locale);
         if (defaultText != null) {
-            MessageFormat mf = buildMessageFormat(defaultText, locale);
-            return formatWithNullDetection(mf, params);
+            return formatMessage(defaultText, locale, params);
         }
         return null;
     }
@@ -149,9 +151,8 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             reloadBundles(valueStack.getContext());
 
             String message = TextParseUtil.translateVariables(bundle.getString(textKey), valueStack);
-            MessageFormat mf = buildMessageFormat(message, locale);
 
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException ex) {
             if (devMode) {
                 LOG.warn("Missing key [{}] in bundle [{}]!", textKey, bundle);
@@ -174,6 +175,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         synchronized (bundlesMap) {
             delegatedClassLoaderMap.put(getCurrentThreadContextClassLoader().hashCode(), classLoader);
         }
+        clearMessageIndexes();
     }
 
     /**
@@ -187,6 +189,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
     protected void clearBundle(final String bundleName, Locale locale) {
         final String key = createMissesKey(String.valueOf(getCurrentThreadContextClassLoader().hashCode()), bundleName, locale);
         final ResourceBundle removedBundle = bundlesMap.remove(key);
+        clearMessageIndexes();
         LOG.debug("Clearing resource bundle [{}], locale [{}], result: [{}].", bundleName, locale, removedBundle != null);
     }
 
@@ -204,9 +207,19 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
      */
     protected void clearMissingBundlesCache() {
         missingBundles.clear();
+        clearMessageIndexes();
         LOG.debug("Cleared the missing bundles cache.");
     }
 
+    /**
+     * Clears the flattened message indexes built per class and locale, they are rebuilt from the bundles on next use.
+     *
+     * @since 7.1.1
+     */
+    protected void clearMessageIndexes() {
+        messageIndexes.clear();
+    }
+
     protected void reloadBundles() {
         reloadBundles(ActionContext.getContext() != null ? ActionContext.getContext().getContextMap() : null);
     }
@@ -222,6 +235,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
                 }
                 if (!reloaded) {
                     bundlesMap.clear();
+                    clearMessageIndexes();
                     clearResourceBundleClassloaderCaches();
 
                     // now, for the true and utter hack, if we're running in tomcat, clear
@@ -333,21 +347,39 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
+    /**
+     * Builds a {@link MessageFormat} for the pattern, the returned instance is owned by the caller.
+     */
     protected MessageFormat buildMessageFormat(String pattern, Locale locale) {
+        return getMessageTemplate(pattern, locale).toMessageFormat();
+    }
+
+    /**
+     * Formats the pattern with the arguments using a cached, pre-parsed template of the pattern
+     *
+     * @return the formatted message or null if it was formatted to "null"
+     * @since 7.1.1
+     */
+    protected String formatMessage(String pattern, Locale locale, Object[] args) {
+        return nullIfNullString(getMessageTemplate(pattern, locale).format(args));
+    }
+
+    private MessageTemplate getMessageTemplate(String pattern, Locale locale) {
         MessageFormatKey key = new MessageFormatKey(pattern, locale);
-        MessageFormat format = messageFormats.get(key);
-        if (format == null) {
-            format = new MessageFormat(pattern);
-            format.setLocale(locale);
-            format.applyPattern(pattern);
-            messageFormats.put(key, format);
+        MessageTemplate template = messageTemplates.get(key);
+        if (template == null) {
+            template = new MessageTemplate(pattern, locale);
+            messageTemplates.put(key, template);
         }
 
-        return format;
+        return template;
     }
 
     protected String formatWithNullDetection(MessageFormat mf, Object[] args) {
-        String message = mf.format(args);
+        return nullIfNullString(mf.format(args));
+    }
+
+    private String nullIfNullString(String message) {
         if ("null".equals(message)) {
             return null;
         } else {
@@ -461,9 +493,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
 
             // defaultMessage may be null
             if (message != null) {
-                MessageFormat mf = buildMessageFormat(TextParseUtil.translateVariables(message, valueStack), locale);
-
-                String msg = formatWithNullDetection(mf, args);
+                String msg = formatMessage(TextParseUtil.translateVariables(message, valueStack), locale, args);
                 result = new GetDefaultMessageReturnArg(msg, found);
             }
         }
@@ -523,8 +553,7 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
             if (valueStack != null) {
                 message = TextParseUtil.translateVariables(bundle.getString(key), valueStack);
             }
-            MessageFormat mf = buildMessageFormat(message, locale);
-            return formatWithNullDetection(mf, args);
+            return formatMessage(message, locale, args);
         } catch (MissingResourceException e) {
             LOG.debug("Missing key [{}] in bundle [{}]!", key, bundleName);
             return null;
@@ -539,6 +568,18 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
      */
     protected String findMessage(Class<?> clazz, String key, String indexedKey, Locale locale, Object[] args, Set<String> checked,
                                  ValueStack valueStack) {
+        if (checked == null && !reloadBundles) {
+            IndexedMessage indexed = getMessageIndex(clazz, locale, false).find(key, indexedKey);
+            if (indexed == null) {
+                return null;
+            }
+            String msg = formatIndexedMessage(indexed, locale, valueStack, args);
+            if (msg != null) {
+                return msg;
+            }
+            // the message was formatted to null, search the bundles one by one as the following ones may define it
+        }
+
         if (checked == null) {
             checked = new TreeSet<>();
         } else if (checked.contains(clazz.getName())) {
@@ -599,6 +640,119 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         return null;
     }
 
+    /**
+     * Traverse up class hierarchy looking for message in <b>package.properties</b> bundles of each class,
+     * from the most to the least specific package.
+     *
+     * @return the message
+     * @since 7.1.1
+     */
+    protected String findPackageMessage(Class<?> startClazz, String key, String indexedKey, Locale locale, Object[] args,
+                                        ValueStack valueStack) {
+        if (!reloadBundles) {
+            IndexedMessage indexed = getMessageIndex(startClazz, locale, true).find(key, indexedKey);
+            if (indexed == null) {
+                return null;
+            }
+            String msg = formatIndexedMessage(indexed, locale, valueStack, args);
+            if (msg != null) {
+                return msg;
+            }
+        }
+
+        for (String packageName : packageBundleNames(startClazz)) {
+            String msg = getMessage(packageName, locale, key, valueStack, args);
+
+            if (msg != null) {
+                return msg;
+            }
+
+            if (indexedKey != null) {
+                msg = getMessage(packageName, locale, indexedKey, valueStack, args);
+
+                if (msg != null) {
+                    return msg;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns messages of all the bundles searched for the class, either by {@link #findMessage} or by
+     * {@link #findPackageMessage}, flattened into a single map in resolution order. The index is built on first use
+     * and dropped when bundles are reloaded or cleared.
+     */
+    private MessageIndex getMessageIndex(Class<?> clazz, Locale locale, boolean packages) {
+        MessageIndexKey indexKey = new MessageIndexKey(clazz, locale, getCurrentThreadContextClassLoader().hashCode(), packages);
+        MessageIndex index = messageIndexes.get(indexKey);
+        if (index == null) {
+            List<String> bundleNames = packages ? packageBundleNames(clazz) : hierarchyBundleNames(clazz, new ArrayList<>());
+            index = buildMessageIndex(bundleNames, locale);
+            messageIndexes.putIfAbsent(indexKey, index);
+        }
+        return index;
+    }
+
+    private MessageIndex buildMessageIndex(List<String> bundleNames, Locale locale) {
+        Map<String, IndexedMessage> messages = new HashMap<>();
+        for (int position = 0; position < bundleNames.size(); position++) {
+            ResourceBundle bundle = findResourceBundle(bundleNames.get(position), locale);
+            if (bundle == null) {
+                continue;
+            }
+            for (String key : bundle.keySet()) {
+                if (!messages.containsKey(key) && bundle.getObject(key) instanceof String message) {
+                    messages.put(key, new IndexedMessage(message, position));
+                }
+            }
+        }
+        LOG.debug("Indexed {} messages of bundles {} for locale [{}]", messages.size(), bundleNames, locale);
+        return new MessageIndex(Map.copyOf(messages));
+    }
+
+    /**
+     * Names of bundles in the order they are searched by {@link #findMessage}: the class, its interfaces and then
+     * the same for its superclass or super interfaces.
+     */
+    private List<String> hierarchyBundleNames(Class<?> clazz, List<String> bundleNames) {
+        bundleNames.add(clazz.getName());
+        for (Class<?> anInterface : clazz.getInterfaces()) {
+            bundleNames.add(anInterface.getName());
+        }
+        if (clazz.isInterface()) {
+            for (Class<?> anInterface : clazz.getInterfaces()) {
+                hierarchyBundleNames(anInterface, bundleNames);
+            }
+        } else if (!clazz.equals(Object.class) && !clazz.isPrimitive()) {
+            hierarchyBundleNames(clazz.getSuperclass(), bundleNames);
+        }
+        return bundleNames;
+    }
+
+    private List<String> packageBundleNames(Class<?> startClazz) {
+        List<String> bundleNames = new ArrayList<>();
+        for (Class<?> clazz = startClazz;
+             (clazz != null) && !clazz.equals(Object.class);
+             clazz = clazz.getSuperclass()) {
+
+            String basePackageName = clazz.getName();
+            while (basePackageName.lastIndexOf('.') != -1) {
+                basePackageName = basePackageName.substring(0, basePackageName.lastIndexOf('.'));
+                bundleNames.add(basePackageName + ".package");
+            }
+        }
+        return bundleNames;
+    }
+
+    private String formatIndexedMessage(IndexedMessage indexed, Locale locale, ValueStack valueStack, Object[] args) {
+        String message = indexed.message();
+        if (valueStack != null) {
+            message = TextParseUtil.translateVariables(message, valueStack);
+        }
+        return formatMessage(message, locale, args);
+    }
+
     protected String extractIndexedName(String textKey) {
         String indexedTextName = null;
         // calculate indexedTextName (collection[*]) if applicable
@@ -658,6 +812,34 @@ abstract class AbstractLocalizedTextProvider implements LocalizedTextProvider {
         }
     }
 
+    record MessageIndexKey(Class<?> clazz, Locale locale, int classLoader, boolean packages) {
+    }
+
+    /**
+     * Message together with the position of the bundle which defines it in the resolution order
+     */
+    record IndexedMessage(String message, int position) {
+    }
+
+    record MessageIndex(Map<String, IndexedMessage> messages) {
+
+        /**
+         * Finds the message for the key or the indexed key, whichever comes from a bundle searched first,
+         * the key wins when both are defined in the same bundle.
+         */
+        IndexedMessage find(String key, String indexedKey) {
+            IndexedMessage message = messages.get(key);
+            if (indexedKey == null) {
+                return message;
+            }
+            IndexedMessage indexedMessage = messages.get(indexedKey);
+            if (message == null || (indexedMessage != null && indexedMessage.position() < message.position())) {
+                return indexedMessage;
+            }
+            return message;
+        }
+    }
+
     static class GetDefaultMessageReturnArg {
         String message;
         boolean foundInBundle;
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.text;
+
+import java.text.ChoiceFormat;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, pre-parsed form of a {@link MessageFormat} pattern: literal segments interleaved with argument slots.
+ * Formatting produces the same result as {@link MessageFormat#format(Object)} but is safe to use from many threads
+ * without locking or cloning the whole {@link MessageFormat}, only a sub-format of a typed argument slot
+ * (e.g. <code>{0,number,integer}</code>) is cloned before use.
+ * <p>
+ * Patterns using {@link ChoiceFormat}, which can nest further arguments, are formatted by a copy of
+ * the parsed {@link MessageFormat}.
+ *
+ * @since 7.1.1
+ */
+final class MessageTemplate {
+
+    private final MessageFormat prototype;
+    private final Locale locale;
+    private final String[] literals;
+    private final int[] arguments;
+    private final Format[] formats;
+    private final boolean fallback;
+    private final int literalsLength;
+
+    /**
+     * @param pattern the pattern, parsed exactly as {@link MessageFormat} does
+     * @param locale  locale used to format numbers and dates
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    MessageTemplate(String pattern, Locale locale) {
+        MessageFormat format = new MessageFormat(pattern);
+        format.setLocale(locale);
+        format.applyPattern(pattern);
+
+        this.prototype = format;
+        this.locale = locale;
+        this.formats = format.getFormats();
+
+        List<String> segments = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        parse(pattern, segments, slots);
+
+        this.literals = segments.toArray(new String[0]);
+        this.arguments = slots.stream().mapToInt(Integer::intValue).toArray();
+        this.literalsLength = segments.stream().mapToInt(String::length).sum();
+
+        boolean useFallback = arguments.length != formats.length;
+        for (Format subFormat : formats) {
+            useFallback |= subFormat instanceof ChoiceFormat;
+        }
+        this.fallback = useFallback;
+    }
+
+    /**
+     * Splits the pattern into literal segments (with quotes resolved) and argument indexes,
+     * following the rules of {@link MessageFormat#applyPattern(String)}
+     */
+    private static void parse(String pattern, List<String> segments, List<Integer> slots) {
+        StringBuilder literal = new StringBuilder();
+        boolean inQuote = false;
+        int length = pattern.length();
+        for (int i = 0; i < length; ++i) {
+            char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                    literal.append(ch);
+                    ++i;
+                } else {
+                    inQuote = !inQuote;
+                }
+            } else if (ch == '{' && !inQuote) {
+                StringBuilder index = new StringBuilder();
+                boolean quotedPart = false;
+                int part = 0;
+                int braceStack = 0;
+                for (++i; i < length; ++i) {
+                    char c = pattern.charAt(i);
+                    if (quotedPart) {
+                        quotedPart = c != '\'';
+                        continue;
+                    }
+                    if (c == '}' && braceStack == 0) {
+                        break;
+                    }
+                    if (c == ',') {
+                        part++;
+                    } else if (c == '{') {
+                        braceStack++;
+                    } else if (c == '}') {
+                        braceStack--;
+                    } else if (c == '\'') {
+                        quotedPart = true;
+                    }
+                    if (part == 0) {
+                        index.append(c);
+                    }
+                }
+                segments.add(literal.toString());
+                literal.setLength(0);
+                slots.add(Integer.parseInt(index.toString()));
+            } else {
+                literal.append(ch);
+            }
+        }
+        segments.add(literal.toString());
+    }
+
+    /**
+     * Formats the arguments, see {@link MessageFormat#format(Object)}
+     *
+     * @param args arguments to insert into slots, may be null
+     * @return formatted message
+     */
+    String format(Object[] args) {
+        if (fallback) {
+            return toMessageFormat().format(args);
+        }
+        if (arguments.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder result = new StringBuilder(literalsLength + 16 * arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            result.append(literals[i]);
+            int argument = arguments[i];
+            if (args == null || argument >= args.length) {
+                result.append('{').append(argument).append('}');
+                continue;
+            }
+
+            Object obj = args[argument];
+            if (obj == null) {
+                result.append("null");
+            } else if (formats[i] != null) {
+                result.append(((Format) formats[i].clone()).format(obj));
+            } else if (obj instanceof Number) {
+                result.append(NumberFormat.getInstance(locale).format(obj));
+            } else if (obj instanceof Date) {
+                result.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(obj));
+            } else {
+                result.append(obj);
+            }
+        }
+        result.append(literals[arguments.length]);
+        return result.toString();
+    }
+
+    /**
+     * @return a new {@link MessageFormat} of the pattern which can be used and modified by the caller
+     */
+    MessageFormat toMessageFormat() {
+        return (MessageFormat) prototype.clone();
+    }
+}
@@ -23,12 +23,15 @@ import org.apache.struts2.ActionInvocation;
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * InvocationSessionStore
- *
+ * <p>
+ * Invocations are kept in a concurrent map stored once in the session, optionally each of them for a limited time only,
+ * expired invocations are evicted when the session's invocations are stored or loaded.
  */
 public class InvocationSessionStore {
 
@@ -50,7 +53,13 @@ public class InvocationSessionStore {
      * @return the DefaultActionInvocation saved using the key, or null if none was found
      */
     public static ActionInvocation loadInvocation(String key, String token) {
-        InvocationContext invocationContext = (InvocationContext) getInvocationMap().get(key);
+        Map<String, Object> invocationMap = getInvocationMap();
+        InvocationContext invocationContext = (InvocationContext) invocationMap.get(key);
+
+        if (invocationContext != null && invocationContext.isExpired(System.currentTimeMillis())) {
+            invocationMap.remove(key, invocationContext);
+            return null;
+        }
 
         if ((invocationContext == null) || !invocationContext.token.equals(token)) {
             return null;
@@ -82,10 +91,26 @@ public class InvocationSessionStore {
      * @param invocation the action invocation
      */
     public static void storeInvocation(String key, String token, ActionInvocation invocation) {
-        InvocationContext invocationContext = new InvocationContext(invocation, token);
+        storeInvocation(key, token, invocation, 0);
+    }
+
+    /**
+     * Stores the DefaultActionInvocation and ActionContext into the Session using the provided key for loading later using
+     * {@link #loadInvocation} until the time to live elapses, evicting other expired invocations of the session
+     *
+     * @param key the name the DefaultActionInvocation and ActionContext were saved as
+     * @param token token for check
+     * @param invocation the action invocation
+     * @param timeToLive milliseconds the invocation can be loaded for, zero or negative to keep it as long as the session
+     * @since 7.1.1
+     */
+    public static void storeInvocation(String key, String token, ActionInvocation invocation, long timeToLive) {
+        long now = System.currentTimeMillis();
+        long expiresAt = timeToLive > 0 ? now + timeToLive : Long.MAX_VALUE;
+
         Map<String, Object> invocationMap = getInvocationMap();
-        invocationMap.put(key, invocationContext);
-        setInvocationMap(invocationMap);
+        invocationMap.values().removeIf(value -> value instanceof InvocationContext context && context.isExpired(now));
+        invocationMap.put(key, new InvocationContext(invocation, token, expiresAt));
     }
 
     static void setInvocationMap(Map<String, Object> invocationMap) {
@@ -107,8 +132,9 @@ public class InvocationSessionStore {
 
         Map<String, Object> invocationMap = (Map<String, Object>) session.get(INVOCATION_MAP_KEY);
 
-        if (invocationMap == null) {
-            invocationMap = new HashMap<>();
+        if (!(invocationMap instanceof ConcurrentMap)) {
+            // the map is stored once and then updated in place, a map restored from an older session is migrated
+            invocationMap = invocationMap == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(invocationMap);
             setInvocationMap(invocationMap);
         }
 
@@ -126,9 +152,17 @@ public class InvocationSessionStore {
 
         String token;
 
-        public InvocationContext(ActionInvocation invocation, String token) {
+        long expiresAt;
+
+        public InvocationContext(ActionInvocation invocation, String token, long expiresAt) {
             this.invocation = invocation;
             this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            // contexts deserialized from sessions stored before expiration was introduced never expire
+            return expiresAt != 0 && now >= expiresAt;
         }
     }
 }
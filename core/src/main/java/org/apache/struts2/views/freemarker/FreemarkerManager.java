@@ -168,6 +168,12 @@ public class FreemarkerManager {
     protected boolean debug;
     protected Configuration config;
     protected ObjectWrapper wrapper;
+
+    /**
+     * The fully initialised {@link #config}, published once {@link #getConfiguration(ServletContext)} completed
+     * the initialisation, allows to read the configuration without acquiring the manager's monitor.
+     */
+    private volatile Configuration initializedConfig;
     protected String contentType = null;
     protected boolean noCharsetInContentType = true;
 
@@ -254,20 +260,28 @@ public class FreemarkerManager {
         return contentType;
     }
 
-    public synchronized Configuration getConfiguration(ServletContext servletContext) {
-        if (config == null) {
-            try {
-                init(servletContext);
-            } catch (TemplateException e) {
-                LOG.error("Cannot load freemarker configuration: ", e);
+    public Configuration getConfiguration(ServletContext servletContext) {
+        Configuration configuration = initializedConfig;
+        if (configuration != null) {
+            return configuration;
+        }
+        synchronized (this) {
+            if (config == null) {
+                try {
+                    init(servletContext);
+                } catch (TemplateException e) {
+                    LOG.error("Cannot load freemarker configuration: ", e);
+                }
+                // store this configuration in the servlet context
+                servletContext.setAttribute(CONFIG_SERVLET_CONTEXT_KEY, config);
             }
-            // store this configuration in the servlet context
-            servletContext.setAttribute(CONFIG_SERVLET_CONTEXT_KEY, config);
+            initializedConfig = config;
+            return config;
         }
-        return config;
     }
 
     public void init(ServletContext servletContext) throws TemplateException {
+        initializedConfig = null;
         config = createConfiguration(servletContext);
 
         // Set defaults:
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.freemarker.tags;
+
+import freemarker.template.TemplateModelException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.struts2.components.Cache;
+import org.apache.struts2.components.Component;
+import org.apache.struts2.util.ValueStack;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * @see Cache
+ */
+public class CacheModel extends TagModel {
+
+    public CacheModel(ValueStack stack, HttpServletRequest req, HttpServletResponse res) {
+        super(stack, req, res);
+    }
+
+    @Override
+    protected Component getBean() {
+        return new Cache(stack);
+    }
+
+    @Override
+    protected Writer createWriter(Component bean, Writer writer) {
+        return new CallbackWriter(bean, writer) {
+            @Override
+            public int onStart() throws TemplateModelException, IOException {
+                int result = super.onStart();
+                if (result == SKIP_BODY) {
+                    // FreeMarker doesn't call afterBody() when the body is skipped, end the component to write the cached fragment
+                    afterBody();
+                }
+                return result;
+            }
+        };
+    }
+}
@@ -33,6 +33,7 @@ public class StrutsModels {
 
     protected ActionModel action;
     protected BeanModel bean;
+    protected CacheModel cache;
     protected CheckboxModel checkbox;
     protected CheckboxListModel checkboxlist;
     protected ComboBoxModel comboBox;
@@ -82,6 +83,14 @@ public class StrutsModels {
         this.res = res;
     }
 
+    public CacheModel getCache() {
+        if (cache == null) {
+            cache = new CacheModel(stack, req, res);
+        }
+
+        return cache;
+    }
+
     public CheckboxListModel getCheckboxlist() {
         if (checkboxlist == null) {
             checkboxlist = new CheckboxListModel(stack, req, res);
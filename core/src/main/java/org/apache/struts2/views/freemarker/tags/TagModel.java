@@ -61,6 +61,18 @@ public abstract class TagModel implements TemplateTransformModel {
         Map unwrappedParameters = unwrapParameters(params);
         bean.copyAttributes(unwrappedParameters);
 
+        return createWriter(bean, writer);
+    }
+
+    /**
+     * Creates the writer which drives the lifecycle of the given component
+     *
+     * @param bean   the component
+     * @param writer the writer of the template
+     * @return the writer returned to FreeMarker
+     * @since 7.1.1
+     */
+    protected Writer createWriter(Component bean, Writer writer) {
         return new CallbackWriter(bean, writer);
     }
 
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2;
+
+import org.apache.struts2.util.ValueStack;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionContextMapTest {
+
+    @Test
+    public void behavesLikeHashMap() {
+        Map<String, Object> expected = new HashMap<>();
+        Map<String, Object> actual = new ActionContextMap();
+
+        for (Map<String, Object> map : List.of(expected, actual)) {
+            map.put(ValueStack.VALUE_STACK, "stack");
+            map.put(StrutsStatics.HTTP_REQUEST, null);
+            map.put("custom", "value");
+            map.put(null, "nullKey");
+        }
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(expected).isEqualTo(actual);
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(actual).hasSize(4);
+        assertThat(actual.containsKey(StrutsStatics.HTTP_REQUEST)).isTrue();
+        assertThat(actual.containsKey(StrutsStatics.HTTP_RESPONSE)).isFalse();
+        assertThat(actual.get(null)).isEqualTo("nullKey");
+
+        assertThat(actual.remove(ValueStack.VALUE_STACK)).isEqualTo("stack");
+        assertThat(actual.remove("custom")).isEqualTo("value");
+        assertThat(actual).hasSize(2).doesNotContainKeys(ValueStack.VALUE_STACK, "custom");
+
+        actual.clear();
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    public void entrySetSupportsUpdatesAndRemoval() {
+        Map<String, Object> map = new ActionContextMap();
+        map.put(StrutsStatics.ACTION_MAPPING, "mapping");
+        map.put("custom", "value");
+
+        for (Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().equals(StrutsStatics.ACTION_MAPPING)) {
+                entry.setValue("changed");
+            } else {
+                it.remove();
+            }
+        }
+
+        assertThat(map).containsOnly(Map.entry(StrutsStatics.ACTION_MAPPING, "changed"));
+    }
+
+    @Test
+    public void actionContextUsesSlots() {
+        ActionContextMap map = new ActionContextMap();
+        ActionContext context = ActionContext.of(map).withLocale(Locale.GERMAN).withActionName("action");
+
+        assertThat(map.get("org.apache.struts2.ActionContext.locale")).isEqualTo(Locale.GERMAN);
+        assertThat(context.get("org.apache.struts2.ActionContext.name")).isEqualTo("action");
+
+        map.put("org.apache.struts2.ActionContext.locale", Locale.FRENCH);
+        assertThat(context.getLocale()).isEqualTo(Locale.FRENCH);
+    }
+
+    @Test
+    public void copiesOtherContext() {
+        Map<String, Object> source = new HashMap<>();
+        source.put(StrutsStatics.PAGE_CONTEXT, "page");
+        source.put("custom", "value");
+
+        assertThat(new ActionContextMap(source)).isEqualTo(source);
+    }
+}
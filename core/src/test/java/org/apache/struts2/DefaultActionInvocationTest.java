@@ -24,6 +24,8 @@ import org.apache.struts2.config.entities.InterceptorMapping;
 import org.apache.struts2.config.entities.ResultConfig;
 import org.apache.struts2.config.providers.XmlConfigurationProvider;
 import org.apache.struts2.dispatcher.HttpParameters;
+import org.apache.struts2.instrumentation.DefaultRequestInstrumentation;
+import org.apache.struts2.instrumentation.PhaseStatistics;
 import org.apache.struts2.interceptor.Interceptor;
 import org.apache.struts2.mock.MockActionProxy;
 import org.apache.struts2.mock.MockInterceptor;
@@ -34,9 +36,13 @@ import org.apache.struts2.util.ValueStack;
 import org.apache.struts2.util.ValueStackFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -102,6 +108,38 @@ public class DefaultActionInvocationTest extends XWorkTestCase {
         }
     }
 
+    public void testInvokeRecordsRequestInstrumentation() throws Exception {
+        List<InterceptorMapping> interceptorMappings = new ArrayList<>();
+        for (String name : Arrays.asList("test1", "test2")) {
+            MockInterceptor interceptor = new MockInterceptor();
+            interceptor.setFoo(name);
+            interceptor.setExpectedFoo(name);
+            interceptorMappings.add(new InterceptorMapping(name, interceptor));
+        }
+
+        DefaultRequestInstrumentation instrumentation = new DefaultRequestInstrumentation();
+        instrumentation.setEnabled("true");
+        instrumentation.setJmxEnabled("false");
+        instrumentation.init();
+
+        DefaultActionInvocation defaultActionInvocation = new DefaultActionInvocationTester(interceptorMappings);
+        container.inject(defaultActionInvocation);
+        defaultActionInvocation.setRequestInstrumentation(instrumentation);
+        defaultActionInvocation.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+
+        defaultActionInvocation.invoke();
+
+        List<String> measured = new ArrayList<>();
+        for (PhaseStatistics statistics : instrumentation.getStatistics()) {
+            assertEquals(1, statistics.getCount());
+            assertTrue(statistics.getSelfNanos() <= statistics.getTotalNanos());
+            assertEquals("foo/bar", statistics.getAction());
+            measured.add(statistics.getPhase() + ":" + statistics.getName());
+        }
+        Collections.sort(measured);
+        assertEquals(Arrays.asList("ACTION:execute", "INTERCEPTOR:test1", "INTERCEPTOR:test2"), measured);
+    }
+
     public void testInvokeSimpleInterceptor() throws Exception {
         List<InterceptorMapping> interceptorMappings = new ArrayList<>();
         Interceptor interceptor1 = new Interceptor() {
@@ -456,6 +494,75 @@ public class DefaultActionInvocationTest extends XWorkTestCase {
         }
     }
 
+    public void testInvokeWithAsyncManagerAndCompletionStage() throws Exception {
+        assertAsyncResult(CompletableFuture.completedFuture("success"));
+    }
+
+    public void testInvokeWithAsyncManagerAndPublisher() throws Exception {
+        Flow.Publisher<String> publisher = subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onNext("input");
+            subscriber.onNext("success");
+            subscriber.onComplete();
+        };
+
+        assertAsyncResult(publisher);
+    }
+
+    private void assertAsyncResult(Object methodResult) throws Exception {
+        DefaultActionInvocation dai = new DefaultActionInvocation(new HashMap<>(), false);
+        dai.stack = container.getInstance(ValueStackFactory.class).createValueStack();
+
+        final Object[] asyncActionResult = new Object[1];
+        dai.setAsyncManager(new AsyncManager() {
+            @Override
+            public boolean hasAsyncActionResult() {
+                return asyncActionResult[0] != null;
+            }
+
+            @Override
+            public Object getAsyncActionResult() {
+                return asyncActionResult[0];
+            }
+
+            @Override
+            public void invokeAsyncAction(Callable asyncAction) {
+                try {
+                    asyncActionResult[0] = asyncAction.call();
+                } catch (Exception e) {
+                    asyncActionResult[0] = e;
+                }
+            }
+        });
+
+        dai.action = (Callable<Object>) () -> methodResult;
+        MockActionProxy actionProxy = new MockActionProxy();
+        actionProxy.setMethod("call");
+        dai.proxy = actionProxy;
+        dai.interceptors = Collections.emptyIterator();
+        dai.ognlUtil = createOgnlUtil();
+
+        dai.invoke();
+
+        assertNotNull("an async stage should be saved", dai.asyncStage);
+        assertFalse("invocation should not be executed", dai.executed);
+        assertEquals("success", asyncActionResult[0]);
+
+        dai.invoke();
+
+        assertNull("async stage should be cleared", dai.asyncStage);
+        assertTrue("invocation should be executed", dai.executed);
+        assertEquals("success", dai.resultCode);
+    }
+
     public void testActionEventListener() throws Exception {
         ActionProxy actionProxy = actionProxyFactory.createActionProxy("",
             "ExceptionFoo", "exceptionMethod", new HashMap<>());
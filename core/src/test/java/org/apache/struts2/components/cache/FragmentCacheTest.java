@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.components.cache;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FragmentCacheTest {
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        FragmentCache cache = new FragmentCache(2);
+        cache.put("a", "A", 60_000);
+        cache.put("b", "B", 60_000);
+        cache.get("a");
+
+        cache.put("c", "C", 60_000);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+
+    @Test
+    public void expiredFragmentsAreDropped() throws Exception {
+        FragmentCache cache = new FragmentCache(10);
+        cache.put("a", "A", 1);
+
+        Thread.sleep(5);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void nonPositiveTtlIsNotCached() {
+        FragmentCache cache = new FragmentCache(10);
+        cache.put("a", "A", 0);
+
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    public void maxEntriesMustBePositive() {
+        assertThatThrownBy(() -> new FragmentCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -18,8 +18,13 @@
  */
 package org.apache.struts2.components.template;
 
+import org.apache.struts2.FileManager;
+import org.apache.struts2.FileManagerFactory;
+import org.apache.struts2.util.fs.DefaultFileManager;
+
 import java.io.File;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Map;
 
 import junit.framework.TestCase;
@@ -62,6 +67,61 @@ public void testGetThemePropsThroughFileSystem() throws Exception {
         assertTrue(propertiesMap.size() > 0);
     }
 
+    public void testPreloadDefaultThemeWithParents() throws Exception {
+        File templateDir = Files.createTempDirectory("templates").toFile();
+        File child = writeThemeProperties(templateDir, "child", "parent=base\nname=child");
+        File base = writeThemeProperties(templateDir, "base", "name=base");
+
+        BaseTemplateEngine templateEngine = new InnerBaseTemplateEngine("theme.properties");
+        templateEngine.setDefaultTemplateDir(templateDir.getAbsolutePath());
+        templateEngine.setDefaultTheme("child");
+        templateEngine.init();
+
+        // preloaded properties don't depend on the file system anymore
+        assertTrue(child.delete());
+        assertTrue(base.delete());
+
+        assertEquals("child", templateEngine.getThemeProps(new Template(templateDir.getAbsolutePath(), "child", "text")).get("name"));
+        assertEquals("base", templateEngine.getThemeProps(new Template(templateDir.getAbsolutePath(), "base", "text")).get("name"));
+    }
+
+    public void testReloadChangedThemeProperties() throws Exception {
+        File templateDir = Files.createTempDirectory("templates").toFile();
+        File theme = writeThemeProperties(templateDir, "reloaded", "name=first");
+
+        DefaultFileManager fileManager = new DefaultFileManager();
+        fileManager.setReloadingConfigs(true);
+
+        BaseTemplateEngine templateEngine = new InnerBaseTemplateEngine("theme.properties");
+        templateEngine.setReloadingConfigs("true");
+        templateEngine.setFileManagerFactory(new FileManagerFactory() {
+            @Override
+            public void setReloadingConfigs(String reloadingConfigs) {
+            }
+
+            @Override
+            public FileManager getFileManager() {
+                return fileManager;
+            }
+        });
+
+        Template template = new Template(templateDir.getAbsolutePath(), "reloaded", "text");
+        assertEquals("first", templateEngine.getThemeProps(template).get("name"));
+
+        Files.writeString(theme.toPath(), "name=second");
+        assertTrue(theme.setLastModified(theme.lastModified() + 10_000));
+
+        assertEquals("second", templateEngine.getThemeProps(template).get("name"));
+    }
+
+    private File writeThemeProperties(File templateDir, String theme, String content) throws Exception {
+        File themeDir = new File(templateDir, theme);
+        assertTrue(themeDir.mkdirs());
+        File propFile = new File(themeDir, "theme.properties");
+        Files.writeString(propFile.toPath(), content);
+        return propFile;
+    }
+
     public class InnerBaseTemplateEngine extends BaseTemplateEngine {
 
         private String themePropertiesFileName;
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.conversion.impl;
+
+import org.apache.struts2.XWorkTestCase;
+import org.apache.struts2.conversion.ObjectTypeDeterminer;
+import org.apache.struts2.util.CreateIfNull;
+import org.apache.struts2.util.Element;
+import org.apache.struts2.util.Key;
+import org.apache.struts2.util.KeyProperty;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DefaultObjectTypeDeterminerTest extends XWorkTestCase {
+
+    private DefaultObjectTypeDeterminer determiner;
+
+    public void testGenericTypes() {
+        assertEquals(Long.class, determiner.getElementClass(Bean.class, "numbers", null));
+        assertEquals(Integer.class, determiner.getKeyClass(Bean.class, "rows"));
+        assertEquals(Bean.class, determiner.getElementClass(Bean.class, "rows", null));
+        assertNull(determiner.getKeyProperty(Bean.class, "numbers"));
+        assertFalse(determiner.shouldCreateIfNew(Bean.class, "numbers", null, null, false));
+        assertTrue(determiner.shouldCreateIfNew(Bean.class, "rows", new HashMap<>(), null, false));
+    }
+
+    public void testAnnotations() {
+        assertEquals(String.class, determiner.getKeyClass(Bean.class, "annotated"));
+        assertEquals(Bean.class, determiner.getElementClass(Bean.class, "annotated", null));
+        assertEquals("id", determiner.getKeyProperty(Bean.class, "annotated"));
+        assertTrue(determiner.shouldCreateIfNew(Bean.class, "annotated", null, null, false));
+    }
+
+    public void testPropertyTypesAreResolvedOnce() {
+        DefaultObjectTypeDeterminer.PropertyTypes types = determiner.getPropertyTypes(Bean.class, "rows");
+
+        assertEquals(Integer.class, types.genericKeyClass());
+        assertEquals(Bean.class, types.genericElementClass());
+        assertSame(types, determiner.getPropertyTypes(Bean.class, "rows"));
+        assertNotSame(types, determiner.getPropertyTypes(Bean.class, "numbers"));
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        determiner = (DefaultObjectTypeDeterminer) container.getInstance(ObjectTypeDeterminer.class);
+    }
+
+    public static class Bean {
+
+        private List<Long> numbers;
+        private Map<Integer, Bean> rows;
+
+        @Key(String.class)
+        @Element(Bean.class)
+        @KeyProperty("id")
+        @CreateIfNull
+        private Map annotated;
+
+        public List<Long> getNumbers() {
+            return numbers;
+        }
+
+        public void setNumbers(List<Long> numbers) {
+            this.numbers = numbers;
+        }
+
+        public Map<Integer, Bean> getRows() {
+            return rows;
+        }
+
+        public void setRows(Map<Integer, Bean> rows) {
+            this.rows = rows;
+        }
+
+        public Map getAnnotated() {
+            return annotated;
+        }
+
+        public void setAnnotated(Map annotated) {
+            this.annotated = annotated;
+        }
+    }
+}
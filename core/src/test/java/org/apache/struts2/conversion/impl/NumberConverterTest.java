@@ -53,6 +53,22 @@ public class NumberConverterTest extends XWorkTestCase {
         assertEquals(1234, value);
     }
 
+    public void testStringToNumberConversionUnavailableLocale() throws Exception {
+        // given
+        NumberConverter converter = new NumberConverter();
+        Locale locale = new Locale("xx", "YY", "junk");
+        Map<String, Object> context = createContextWithLocale(locale);
+
+        SimpleFooAction foo = new SimpleFooAction();
+
+        // when
+        Object value = converter.convertValue(context, foo, null, "id", "1234", Integer.class);
+
+        // then
+        assertFalse(DefaultTypeConverter.isAvailableLocale(locale));
+        assertEquals(1234, value);
+    }
+
     public void testStringToNumberConversionUS() throws Exception {
         // given
         NumberConverter converter = new NumberConverter();
@@ -33,10 +33,13 @@ import org.apache.struts2.util.Bar;
 import org.apache.struts2.util.Cat;
 import org.apache.struts2.util.Foo;
 import org.apache.struts2.util.FurColor;
+import org.apache.struts2.util.MyBean;
+import org.apache.struts2.util.MyBeanAction;
 import org.apache.struts2.util.ValueStack;
 import org.apache.struts2.util.reflection.ReflectionContextState;
 import ognl.OgnlRuntime;
 import org.apache.struts2.conversion.TypeConverter;
+import org.apache.struts2.conversion.TypeConverterHolder;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -47,6 +50,10 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.assertArrayEquals;
 
@@ -461,6 +468,27 @@ public class XWorkConverterTest extends XWorkTestCase {
         assertArrayEquals(new boolean[]{true, false}, booleans);
     }
 
+    public void testStringArrayToPrimitivesWithLocale() {
+        assertArrayEquals(new double[]{1.5, -2, 1000.25}, (double[]) converter.convertValue(context, null, null, null, new String[]{
+                "1.5", "-2", "1,000.25"
+        }, double[].class), 0.0);
+        assertArrayEquals(new short[]{-12, 300}, (short[]) converter.convertValue(context, null, null, null, new String[]{
+                "-12", "300"
+        }, short[].class));
+        assertEquals(OgnlRuntime.NoConversionPossible, converter.convertValue(context, null, null, null, new String[]{
+                "1", "3000000000"
+        }, int[].class));
+        assertEquals(OgnlRuntime.NoConversionPossible, converter.convertValue(context, null, null, null, new String[]{
+                "1", "1,234"
+        }, int[].class));
+
+        context = ActionContext.of(context).withLocale(Locale.GERMANY).getContextMap();
+        assertArrayEquals(new double[]{1.5, 1500}, (double[]) converter.convertValue(context, null, null, null, new String[]{
+                "1,5", "1.500"
+        }, double[].class), 0.0);
+        assertArrayEquals(new float[]{1.5f}, (float[]) converter.convertValue(context, null, null, null, "1,5", float[].class), 0.0f);
+    }
+
     public void testStringArrayToSet() {
         Set<String> list = new HashSet<>();
         list.add("foo");
@@ -804,6 +832,31 @@ public class XWorkConverterTest extends XWorkTestCase {
         assertEquals(converted, Arrays.asList(1, 2, 3));
     }
 
+    public void testConverterMappingIsPublishedOnce() throws Exception {
+        List<Callable<Object>> lookups = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            lookups.add(() -> converter.getConverter(MyBeanAction.class, "Element_beanList"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<Object> element : executor.invokeAll(lookups)) {
+                assertEquals(MyBean.class, element.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<String, Object> mapping = container.getInstance(TypeConverterHolder.class).getMapping(MyBeanAction.class);
+        assertTrue(mapping.containsKey("Element_beanMap"));
+        try {
+            mapping.put("Element_beanList", Object.class);
+            fail("published mapping should be unmodifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
     public static class Foo1 {
         public Bar1 getBar() {
             return new Bar1Impl();
@@ -18,10 +18,14 @@
  */
 package org.apache.struts2.dispatcher;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import static org.easymock.EasyMock.createMock;
@@ -131,6 +135,115 @@ public class DefaultStaticContentLoaderTest extends StrutsInternalTestCase {
         assertEquals("/content", loader.uiStaticContentPath);
     }
 
+    public void testCachedResourceWithEtag() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        String etag = response.getHeader("ETag");
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals("text/javascript", response.getContentType());
+        assertNotNull(etag);
+        assertTrue(response.getContentAsByteArray().length > 0);
+        assertNotNull(defaultStaticContentLoader.cachedResources.get("org/apache/struts2/static/utils.js"));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", etag);
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(etag, response.getHeader("ETag"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    public void testCachedResourceGzipVariant() throws Exception {
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), plain);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "deflate, gzip;q=0.8");
+        MockHttpServletResponse compressed = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, compressed);
+
+        assertEquals("gzip", compressed.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", compressed.getHeader("Vary"));
+        assertEquals(compressed.getContentAsByteArray().length, compressed.getContentLength());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.getContentAsByteArray()))) {
+            assertEquals(plain.getContentAsString(), new String(in.readAllBytes()));
+        }
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip;q=0");
+        MockHttpServletResponse refused = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, refused);
+
+        assertNull(refused.getHeader("Content-Encoding"));
+        assertEquals(plain.getContentAsString(), refused.getContentAsString());
+    }
+
+    public void testNoCacheInDevMode() throws Exception {
+        defaultStaticContentLoader.setDevMode("true");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertEquals(0, defaultStaticContentLoader.cachedResources.size());
+    }
+
+    public void testEncodedSpellingsShareCachedResource() throws Exception {
+        for (String path : new String[]{"/static/utils.js", "/static/%75tils.js", "/static/u%74ils.js", "/static/%75%74ils.js"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            defaultStaticContentLoader.findStaticResource(path, new MockHttpServletRequest(), response);
+            assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        }
+
+        assertEquals(1, defaultStaticContentLoader.cachedResources.size());
+    }
+
+    public void testGzipVariantHasOwnEtag() throws Exception {
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), plain);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse compressed = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, compressed);
+
+        String etag = plain.getHeader("ETag");
+        String gzipEtag = compressed.getHeader("ETag");
+        assertEquals("gzip", compressed.getHeader("Content-Encoding"));
+        assertNotNull(gzipEtag);
+        assertFalse(gzipEtag.equals(etag));
+
+        // the identity ETag doesn't validate the compressed representation
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(gzipEtag, response.getHeader("ETag"));
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Accept-Encoding", "gzip");
+        request.addHeader("If-None-Match", gzipEtag);
+        response = new MockHttpServletResponse();
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", request, response);
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+    }
+
+    public void testCachedResourcesAreBounded() throws Exception {
+        defaultStaticContentLoader.setMaxCachedResources("0");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        defaultStaticContentLoader.findStaticResource("/static/utils.js", new MockHttpServletRequest(), response);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(0, defaultStaticContentLoader.cachedResources.size());
+    }
+
     protected void setUp() throws Exception {
         super.setUp();
         requestMock = createMock(HttpServletRequest.class);
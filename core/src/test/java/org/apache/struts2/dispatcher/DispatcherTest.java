@@ -29,6 +29,7 @@ import org.apache.struts2.config.entities.InterceptorStackConfig;
 import org.apache.struts2.config.entities.PackageConfig;
 import org.apache.struts2.inject.Container;
 import org.apache.struts2.inject.ContainerBuilder;
+import org.apache.struts2.instrumentation.RequestInstrumentation;
 import org.apache.struts2.interceptor.Interceptor;
 import org.apache.struts2.mock.MockActionInvocation;
 import org.apache.struts2.mock.MockActionProxy;
@@ -284,6 +285,20 @@ public class DispatcherTest extends StrutsJUnit4InternalTestCase {
         verify(configuration).destroy();
     }
 
+    @Test
+    public void testReplacedRequestInstrumentationIsDestroyed() {
+        RequestInstrumentation previous = mock(RequestInstrumentation.class);
+        RequestInstrumentation reloaded = mock(RequestInstrumentation.class);
+
+        dispatcher.setRequestInstrumentation(previous);
+        dispatcher.setRequestInstrumentation(previous);
+        verify(previous, never()).destroy();
+
+        dispatcher.setRequestInstrumentation(reloaded);
+        verify(previous).destroy();
+        verify(reloaded, never()).destroy();
+    }
+
     @Test
     public void testMultipartSupportEnabledByDefault() {
         HttpServletRequest req = new MockHttpServletRequest();
@@ -20,10 +20,14 @@ package org.apache.struts2.dispatcher;
 
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class HttpParametersTest {
@@ -75,4 +79,83 @@ public class HttpParametersTest {
         assertEquals("Value1", params.get("Param1").getValue());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldNotModifyWrappedMap() {
+        // given
+        Map<String, String[]> requestParams = new HashMap<>();
+        requestParams.put("param1", new String[]{"value1"});
+        requestParams.put("param2", new String[]{"value2"});
+        Map<String, String[]> source = Collections.unmodifiableMap(requestParams);
+
+        // when
+        HttpParameters params = HttpParameters.create(source).build();
+        params.remove("PARAM1");
+        params.appendAll(Collections.singletonMap("param3", new Parameter.Request("param3", "value3")));
+
+        // then
+        assertEquals(2, source.size());
+        assertFalse(params.contains("param1"));
+        assertEquals("value2", params.get("Param2").getValue());
+        assertEquals("value3", params.get("param3").getValue());
+        assertEquals(2, params.size());
+        assertEquals("[param2, param3]", params.keySet().toString());
+    }
+
+    @Test
+    public void shouldNotSeeLaterChangesOfCallerMap() {
+        // given
+        Map<String, Object> mappingParams = new HashMap<>();
+        mappingParams.put("param1", "value1");
+        HttpParameters params = HttpParameters.create(mappingParams).build();
+
+        // when
+        mappingParams.put("param2", "value2");
+        mappingParams.remove("param1");
+
+        // then
+        assertEquals(1, params.size());
+        assertEquals("value1", params.get("PARAM1").getValue());
+        assertFalse(params.contains("param2"));
+    }
+
+    @Test
+    public void shouldExposeLiveKeySet() {
+        // given
+        HttpParameters params = HttpParameters.create(Collections.singletonMap("param1", "value1")).build();
+        Set<String> keys = params.keySet();
+
+        // when
+        params.appendAll(Collections.singletonMap("param2", new Parameter.Request("param2", "value2")));
+        params.remove("param1");
+
+        // then
+        assertEquals("[param2]", keys.toString());
+        assertTrue(keys.contains("PARAM2"));
+        assertEquals(1, params.values().size());
+        assertEquals("{param2=value2}", params.toString());
+    }
+
+    @Test
+    public void shouldMaterializeParameterOnce() {
+        // given
+        HttpParameters params = HttpParameters.create(Collections.singletonMap("param1", new String[]{"value1"})).build();
+
+        // then
+        assertSame(params.get("param1"), params.get("PARAM1"));
+        assertSame(params.get("param1"), params.entrySet().iterator().next().getValue());
+    }
+
+    @Test
+    public void shouldAppendAfterRemove() {
+        // given
+        HttpParameters params = HttpParameters.create(Collections.singletonMap("param1", "value1")).build();
+
+        // when
+        params.remove("param1").appendAll(Collections.singletonMap("Param1", new Parameter.Request("Param1", "value2")));
+
+        // then
+        assertEquals("value2", params.get("param1").getValue());
+        assertEquals(1, params.size());
+    }
+
+}
@@ -20,9 +20,11 @@ package org.apache.struts2.inject;
 
 import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.SystemUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.InvocationTargetException;
 import java.security.Permission;
 import java.util.concurrent.Callable;
 
@@ -107,6 +109,26 @@ public class ContainerImplTest {
         assertNotNull(constructorCheck.getExistingName());
     }
 
+    @Test
+    public void methodInjectorPropagatesException() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> c.inject(new FailingMethodCheck()));
+        assertTrue(e.getCause() instanceof InvocationTargetException);
+        assertEquals("Lukasz", e.getCause().getCause().getMessage());
+    }
+
+    @Test
+    public void constructorInjectorPropagatesException() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> c.inject(FailingConstructorCheck.class));
+        assertTrue(ExceptionUtils.getThrowableList(e).stream().anyMatch(InvocationTargetException.class::isInstance));
+        assertEquals("Lukasz", ExceptionUtils.getRootCause(e).getMessage());
+    }
+
+    @Test
+    public void privateConstructorInjector() {
+        PrivateConstructorCheck constructorCheck = c.inject(PrivateConstructorCheck.class);
+        assertEquals("Lukasz", constructorCheck.getName());
+    }
+
     /**
      * Inject values into field under SecurityManager
      */
@@ -233,6 +255,14 @@ public class ContainerImplTest {
 
     }
 
+    public static class FailingMethodCheck {
+
+        @Inject("methodCheck.name")
+        public void setName(String name) {
+            throw new IllegalStateException(name);
+        }
+    }
+
     public static class ConstructorCheck {
         private String name;
 
@@ -246,6 +276,27 @@ public class ContainerImplTest {
         }
     }
 
+    public static class FailingConstructorCheck {
+
+        @Inject("constructorCheck.name")
+        public FailingConstructorCheck(String name) {
+            throw new IllegalStateException(name);
+        }
+    }
+
+    public static class PrivateConstructorCheck {
+        private final String name;
+
+        @Inject("constructorCheck.name")
+        private PrivateConstructorCheck(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
     public static class OptionalConstructorCheck {
         private String name;
 
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.instrumentation;
+
+import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.instrumentation.RequestInstrumentation.Phase;
+import org.apache.struts2.instrumentation.RequestInstrumentation.Probe;
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultRequestInstrumentationTest {
+
+    private final DefaultRequestInstrumentation instrumentation = new DefaultRequestInstrumentation();
+    private final ActionConfig index = new ActionConfig.Builder("ns", "index", "org.example.Index").build();
+
+    @After
+    public void tearDown() {
+        instrumentation.destroy();
+    }
+
+    @Test
+    public void disabledByDefault() {
+        instrumentation.init();
+
+        assertThat(instrumentation.start(Phase.REQUEST, index, null)).isSameAs(Probe.NOOP);
+        assertThat(instrumentation.getStatistics()).isEmpty();
+    }
+
+    @Test
+    public void nestedPhasesAreExcludedFromSelfTime() throws Exception {
+        instrumentation.setEnabled("true");
+        instrumentation.setJmxEnabled("false");
+        instrumentation.init();
+
+        try (Probe ignored = instrumentation.start(Phase.INTERCEPTOR, index, "params")) {
+            try (Probe ignored2 = instrumentation.start(Phase.ACTION, index, "execute")) {
+                Thread.sleep(20);
+            }
+        }
+
+        assertThat(instrumentation.getStatistics()).hasSize(2).allSatisfy(statistics -> {
+            assertThat(statistics.getAction()).isEqualTo("ns/index");
+            assertThat(statistics.getCount()).isEqualTo(1);
+        });
+        PhaseStatistics interceptor = find(Phase.INTERCEPTOR);
+        PhaseStatistics action = find(Phase.ACTION);
+
+        assertThat(action.getTotalNanos()).isGreaterThanOrEqualTo(20_000_000L);
+        assertThat(action.getSelfNanos()).isEqualTo(action.getTotalNanos());
+        assertThat(interceptor.getTotalNanos()).isGreaterThanOrEqualTo(action.getTotalNanos());
+        assertThat(interceptor.getSelfNanos()).isEqualTo(interceptor.getTotalNanos() - action.getTotalNanos());
+        assertThat(action.getHistogram()).hasSize(instrumentation.getHistogramBoundsMillis().length + 1);
+        assertThat(LongStream.of(action.getHistogram()).sum()).isEqualTo(1);
+        assertThat(action.getHistogram()[0]).isZero();
+
+        instrumentation.reset();
+        assertThat(instrumentation.getStatistics()).isEmpty();
+    }
+
+    @Test
+    public void unresolvedRequestsShareOneStatistics() {
+        instrumentation.setEnabled("true");
+        instrumentation.setJmxEnabled("false");
+        instrumentation.init();
+
+        for (int i = 0; i < 10; i++) {
+            try (Probe ignored = instrumentation.start(Phase.REQUEST, null, null)) {
+                // action not found
+            }
+        }
+        try (Probe probe = instrumentation.start(Phase.REQUEST, null, null)) {
+            probe.actionResolved(new ActionConfig.Builder(index).methodName("input").build());
+        }
+
+        assertThat(instrumentation.getStatistics()).hasSize(2);
+        assertThat(find(Phase.REQUEST, DefaultRequestInstrumentation.UNKNOWN_ACTION).getCount()).isEqualTo(10);
+        assertThat(find(Phase.REQUEST, "ns/index").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void exposedOverJmx() throws Exception {
+        instrumentation.setEnabled("true");
+        instrumentation.init();
+
+        try (Probe ignored = instrumentation.start(Phase.RESULT, index, "success")) {
+            // measured
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.apache.struts2:type=RequestInstrumentation,id=" + System.identityHashCode(instrumentation));
+        CompositeData[] statistics = (CompositeData[]) server.getAttribute(name, "Statistics");
+
+        assertThat(statistics).hasSize(1);
+        assertThat(statistics[0].get("phase")).isEqualTo("RESULT");
+        assertThat(statistics[0].get("name")).isEqualTo("success");
+        assertThat(statistics[0].get("count")).isEqualTo(1L);
+
+        instrumentation.destroy();
+        Set<ObjectName> names = server.queryNames(name, null);
+        assertThat(names).isEmpty();
+    }
+
+    private PhaseStatistics find(Phase phase, String action) {
+        return instrumentation.getStatistics().stream()
+                .filter(statistics -> statistics.getPhase().equals(phase.name()) && statistics.getAction().equals(action))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private PhaseStatistics find(Phase phase) {
+        return instrumentation.getStatistics().stream()
+                .filter(statistics -> statistics.getPhase().equals(phase.name()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
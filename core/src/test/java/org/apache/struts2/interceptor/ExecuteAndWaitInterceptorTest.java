@@ -51,6 +51,10 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
 
 /**
  * Test case for ExecuteAndWaitInterceptor.
@@ -219,6 +223,56 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
         assertEquals("success", result3);
     }
 
+    public void testMaxProcessesReturnsBusy() throws Exception {
+        waitInterceptor.setMaxProcesses(1);
+
+        ActionProxy proxy = buildProxy("action1");
+        assertEquals("wait", proxy.execute());
+        assertEquals(1, waitInterceptor.getRunningProcesses("action1"));
+
+        // another session
+        Map<String, Object> otherSession = new HashMap<>();
+        context = ActionContext.of(context).withSession(otherSession).getContextMap();
+        ActionProxy proxy2 = buildProxy("action1");
+        assertEquals(ExecuteAndWaitInterceptor.BUSY, proxy2.execute());
+        assertTrue(otherSession.isEmpty());
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> waitInterceptor.getRunningProcesses("action1") == 0);
+
+        ActionProxy proxy3 = buildProxy("action1");
+        assertEquals("wait", proxy3.execute());
+    }
+
+    public void testMaxProcessesWithCustomExecutorProvider() throws Exception {
+        // the process starts its own thread, run() returns before the action is done
+        waitInterceptor.setExecutorProvider(new TestExecutorProvider());
+        waitInterceptor.setMaxProcesses(1);
+
+        ActionProxy proxy = buildProxy("action1");
+        assertEquals("wait", proxy.execute());
+        Thread.sleep(100);
+        assertEquals(1, waitInterceptor.getRunningProcesses("action1"));
+
+        Map<String, Object> otherSession = new HashMap<>();
+        context = ActionContext.of(context).withSession(otherSession).getContextMap();
+        ActionProxy proxy2 = buildProxy("action1");
+        assertEquals(ExecuteAndWaitInterceptor.BUSY, proxy2.execute());
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> waitInterceptor.getRunningProcesses("action1") == 0);
+
+        ActionProxy proxy3 = buildProxy("action1");
+        assertEquals("wait", proxy3.execute());
+    }
+
+    public void testRejectedProcessReturnsBusy() throws Exception {
+        waitInterceptor.setExecutorProvider(new RejectingExecutorProvider());
+
+        ActionProxy proxy = buildProxy("action1");
+        assertEquals(ExecuteAndWaitInterceptor.BUSY, proxy.execute());
+        assertTrue(session.isEmpty());
+        assertEquals(0, waitInterceptor.getRunningProcesses("action1"));
+    }
+
     protected ActionProxy buildProxy(String actionName) throws Exception {
         return actionProxyFactory.createActionProxy("", actionName, null, context);
     }
@@ -277,6 +331,7 @@ public class ExecuteAndWaitInterceptorTest extends StrutsInternalTestCase {
                 .addActionConfig("action1", new ActionConfig.Builder("", "action1", ExecuteAndWaitDelayAction.class.getName())
                     .addResultConfig(new ResultConfig.Builder(Action.SUCCESS, MockResult.class.getName()).build())
                     .addResultConfig(new ResultConfig.Builder(ExecuteAndWaitInterceptor.WAIT, MockResult.class.getName()).build())
+                    .addResultConfig(new ResultConfig.Builder(ExecuteAndWaitInterceptor.BUSY, MockResult.class.getName()).build())
                     .addInterceptor(new InterceptorMapping("params", parametersInterceptor))
                     .addInterceptor(new InterceptorMapping("execAndWait", waitInterceptor))
                     .build())
@@ -314,4 +369,19 @@ class TestExecutorProvider implements ExecutorProvider {
     }
 }
 
+class RejectingExecutorProvider implements ExecutorProvider {
+
+    @Override
+    public void execute(Runnable task) {
+        throw new RejectedExecutionException("busy");
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return false;
+    }
 
+    @Override
+    public void shutdown() {
+    }
+}
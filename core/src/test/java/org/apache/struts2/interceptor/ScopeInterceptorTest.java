@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor;
+
+import org.apache.struts2.StrutsException;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ScopeInterceptorTest {
+
+    private final Map<String, Object> session = new HashMap<>();
+    private final MockActionInvocation first = new MockActionInvocation();
+    private final MockActionInvocation second = new MockActionInvocation();
+
+    @Test
+    public void lockIsReentrantForSameInvocation() throws Exception {
+        ScopeInterceptor.lock(session, first, 100);
+        ScopeInterceptor.lock(session, first, 100);
+
+        ScopeInterceptor.unlock(session, first);
+        ScopeInterceptor.unlock(session, first);
+
+        ScopeInterceptor.lock(session, second, 100);
+        ScopeInterceptor.unlock(session, second);
+    }
+
+    @Test
+    public void lockTimesOutWhenUsedByAnotherInvocation() throws Exception {
+        ScopeInterceptor.lock(session, first, 100);
+        try {
+            assertThatThrownBy(() -> ScopeInterceptor.lock(session, second, 50))
+                    .isInstanceOf(StrutsException.class)
+                    .hasMessage("Deadlock in session lock");
+        } finally {
+            ScopeInterceptor.unlock(session, first);
+        }
+    }
+
+    @Test
+    public void unlockByOtherInvocationIsIgnored() throws Exception {
+        ScopeInterceptor.lock(session, first, 100);
+        ScopeInterceptor.unlock(session, second);
+
+        assertThatThrownBy(() -> ScopeInterceptor.lock(session, second, 50)).isInstanceOf(StrutsException.class);
+        ScopeInterceptor.unlock(session, first);
+    }
+
+    @Test
+    public void waitingInvocationAcquiresReleasedLock() throws Exception {
+        ScopeInterceptor.lock(session, first, 100);
+
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> {
+            try {
+                ScopeInterceptor.lock(session, second, 5000);
+                ScopeInterceptor.unlock(session, second);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        assertThat(waiting).isNotDone();
+
+        ScopeInterceptor.unlock(session, first);
+        waiting.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void locksAreIdentityBased() throws Exception {
+        Map<String, Object> equalSession = new HashMap<>();
+
+        ScopeInterceptor.lock(session, first, 100);
+        ScopeInterceptor.lock(equalSession, second, 100);
+
+        ScopeInterceptor.unlock(equalSession, second);
+        ScopeInterceptor.unlock(session, first);
+    }
+}
@@ -39,6 +39,7 @@ public class TokenSessionStoreInterceptorTest extends TokenInterceptorTest {
         // double post will just return success and render the same view as the first execute
         // see TokenInterceptor where a 2nd call will return invalid.token code instead
         assertEquals(Action.SUCCESS, proxy2.execute());
+        assertEquals(0, TokenSessionStoreInterceptor.lockedSessions());
     }
 
     public void testNullTokenName() throws Exception {
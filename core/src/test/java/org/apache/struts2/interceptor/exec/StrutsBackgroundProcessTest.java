@@ -34,6 +34,7 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.struts2.StrutsInternalTestCase;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -161,6 +162,30 @@ public class StrutsBackgroundProcessTest extends StrutsInternalTestCase {
         assertEquals("Background thread Unprepared has not been prepared!", bp.getException().getMessage());
     }
 
+    public void testRunsInStrutsExecutorThread() {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        MockActionInvocationWithActionInvoker invocation = new MockActionInvocationWithActionInvoker(() -> {
+            threadName.set(Thread.currentThread().getName());
+            return "done";
+        });
+        StrutsExecutorProvider provider = new StrutsExecutorProvider();
+        provider.setMaxThreads("1");
+        provider.init();
+        try {
+            BackgroundProcess bp = new StrutsBackgroundProcess(invocation, "inline", Thread.MIN_PRIORITY).prepare();
+            provider.execute(bp);
+
+            await().atMost(1, TimeUnit.SECONDS).until(bp::isDone);
+            await().atMost(1, TimeUnit.SECONDS).until(() -> provider.getCompletedCount() == 1);
+
+            assertEquals("done", bp.getResult());
+            assertEquals("inline", threadName.get());
+            assertEquals(0, provider.getActiveCount());
+        } finally {
+            provider.shutdown();
+        }
+    }
+
     private static class MockActionInvocationWithActionInvoker extends MockActionInvocation {
         private final Callable<String> actionInvoker;
 
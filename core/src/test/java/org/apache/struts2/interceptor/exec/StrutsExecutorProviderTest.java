@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.interceptor.exec;
+
+import org.junit.After;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+public class StrutsExecutorProviderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private StrutsExecutorProvider provider;
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        if (provider != null) {
+            provider.shutdown();
+        }
+    }
+
+    @Test
+    public void unlimitedByDefault() {
+        provider = new StrutsExecutorProvider();
+        provider.init();
+
+        for (int i = 0; i < 10; i++) {
+            provider.execute(this::awaitRelease);
+        }
+
+        await().atMost(1, TimeUnit.SECONDS).until(() -> provider.getActiveCount() == 10);
+        assertThat(provider.getQueueDepth()).isZero();
+        assertThat(provider.getRejectedCount()).isZero();
+    }
+
+    @Test
+    public void rejectsWhenThreadsAndQueueAreFull() {
+        provider = new StrutsExecutorProvider();
+        provider.setMaxThreads("2");
+        provider.setQueueCapacity("1");
+        provider.init();
+
+        provider.execute(this::awaitRelease);
+        provider.execute(this::awaitRelease);
+        provider.execute(this::awaitRelease);
+
+        assertThatThrownBy(() -> provider.execute(this::awaitRelease)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(provider.getQueueDepth()).isEqualTo(1);
+        assertThat(provider.getSubmittedCount()).isEqualTo(3);
+        assertThat(provider.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).until(() -> provider.getCompletedCount() == 3);
+        assertThat(provider.getQueueDepth()).isZero();
+        assertThat(provider.getMaxQueueLatency()).isGreaterThan(0);
+        assertThat(provider.getAverageQueueLatency()).isGreaterThan(0).isLessThanOrEqualTo(provider.getMaxQueueLatency());
+    }
+
+    @Test
+    public void rejectsWithoutQueueWhenThreadsAreBusy() {
+        provider = new StrutsExecutorProvider();
+        provider.setMaxThreads("1");
+        provider.init();
+
+        provider.execute(this::awaitRelease);
+
+        assertThatThrownBy(() -> provider.execute(this::awaitRelease)).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void virtualThreadsFallBackToPlatformThreads() {
+        provider = new StrutsExecutorProvider();
+        provider.setVirtualThreads("true");
+        provider.init();
+
+        CountDownLatch done = new CountDownLatch(1);
+        provider.execute(done::countDown);
+
+        await().atMost(1, TimeUnit.SECONDS).until(() -> provider.getCompletedCount() == 1);
+        assertThat(done.getCount()).isZero();
+    }
+
+    @Test
+    public void exposedOverJmx() throws Exception {
+        provider = new StrutsExecutorProvider();
+        provider.setMaxThreads("1");
+        provider.setQueueCapacity("1");
+        provider.init();
+
+        provider.execute(this::awaitRelease);
+        provider.execute(this::awaitRelease);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.apache.struts2:type=ExecutorProvider,id=" + System.identityHashCode(provider));
+        assertThat(server.getAttribute(name, "QueueDepth")).isEqualTo(1);
+        assertThat(server.getAttribute(name, "SubmittedCount")).isEqualTo(2L);
+
+        provider.shutdown();
+        assertThat(server.queryNames(name, null)).isEmpty();
+    }
+
+    @Test
+    public void shutdown() {
+        provider = new StrutsExecutorProvider();
+
+        assertThat(provider.isShutdown()).isFalse();
+        provider.shutdown();
+        assertThat(provider.isShutdown()).isTrue();
+        assertThatThrownBy(() -> provider.execute(this::awaitRelease)).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
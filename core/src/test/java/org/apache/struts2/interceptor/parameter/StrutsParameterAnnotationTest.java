@@ -44,6 +44,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.struts2.ognl.OgnlCacheFactory.CacheType.LRU;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -159,6 +160,78 @@ public class StrutsParameterAnnotationTest {
         assertThat(threadAllowlist.getAllowlist()).containsExactlyInAnyOrderElementsOf(getParentClasses(Pojo.class));
     }
 
+    /**
+     * Remembered annotation check still allowlists the classes for the following requests.
+     */
+    @Test
+    public void publicPojoDepthOne_planReused() {
+        testParameter(new FieldAction(), "publicPojoDepthOne.key", true);
+        threadAllowlist.clearAllowlist();
+
+        testParameter(new FieldAction(), "publicPojoDepthOne['other']", true);
+        assertThat(threadAllowlist.getAllowlist()).containsExactlyInAnyOrderElementsOf(getParentClasses(Pojo.class));
+    }
+
+    /**
+     * Successful annotation check is resolved once per action class and shape of the parameter, rejected ones are
+     * resolved again.
+     */
+    @Test
+    public void annotatedMemberResolvedOncePerShape() {
+        AtomicInteger resolved = new AtomicInteger();
+        ParametersInterceptor interceptor = new ParametersInterceptor() {
+            @Override
+            protected boolean hasValidAnnotatedMember(String rootProperty, Object action, long paramDepth) {
+                resolved.incrementAndGet();
+                return super.hasValidAnnotatedMember(rootProperty, action, paramDepth);
+            }
+        };
+        interceptor.setRequireAnnotations(Boolean.TRUE.toString());
+        interceptor.setThreadAllowlist(threadAllowlist);
+        interceptor.setOgnlUtil(new OgnlUtil(
+                new DefaultOgnlExpressionCacheFactory<>(String.valueOf(1000), LRU.toString()),
+                new DefaultOgnlBeanInfoCacheFactory<>(String.valueOf(1000), LRU.toString()),
+                new StrutsOgnlGuard()));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.isParameterAnnotatedAndAllowlist("publicPojoDepthOne.key", new FieldAction())).isTrue();
+            assertThat(interceptor.isParameterAnnotatedAndAllowlist("publicPojoDepthOne.other", new FieldAction())).isTrue();
+            assertThat(interceptor.isParameterAnnotatedAndAllowlist("publicStrNotAnnotated", new FieldAction())).isFalse();
+        }
+        assertThat(resolved).hasValue(1 + 3);
+    }
+
+    /**
+     * Names of members which don't exist on the action don't take space in the cache.
+     */
+    @Test
+    public void unknownMembersDoNotDisableCache() {
+        AtomicInteger resolved = new AtomicInteger();
+        ParametersInterceptor interceptor = new ParametersInterceptor() {
+            @Override
+            protected boolean hasValidAnnotatedMember(String rootProperty, Object action, long paramDepth) {
+                resolved.incrementAndGet();
+                return super.hasValidAnnotatedMember(rootProperty, action, paramDepth);
+            }
+        };
+        interceptor.setRequireAnnotations(Boolean.TRUE.toString());
+        interceptor.setThreadAllowlist(threadAllowlist);
+        interceptor.setOgnlUtil(new OgnlUtil(
+                new DefaultOgnlExpressionCacheFactory<>(String.valueOf(1000), LRU.toString()),
+                new DefaultOgnlBeanInfoCacheFactory<>(String.valueOf(1000), LRU.toString()),
+                new StrutsOgnlGuard()));
+        interceptor.setParameterPlanCacheSize(5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(interceptor.isParameterAnnotatedAndAllowlist("junk" + i + ".key", new FieldAction())).isFalse();
+        }
+        resolved.set(0);
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.isParameterAnnotatedAndAllowlist("publicPojoDepthOne.key", new FieldAction())).isTrue();
+        }
+        assertThat(resolved).hasValue(1);
+    }
+
     /**
      * Public Pojo field can be injected when annotated with depth one, using the square bracket syntax.
      */
@@ -619,6 +619,106 @@ public class OgnlUtilTest extends XWorkTestCase {
         assertEquals(0, bar.getSomethingElse());
     }
 
+    public void testCopyConvertsMismatchedTypes() {
+        TextBean text = new TextBean();
+        text.setNumber("5");
+        text.setTitle("converted");
+        Foo foo = new Foo();
+
+        ognlUtil.copy(text, foo, ognlUtil.createDefaultContext(text));
+
+        assertEquals(5, foo.getNumber());
+        assertEquals("converted", foo.getTitle());
+    }
+
+    public void testCopyKeepsInclusionsApart() {
+        Foo foo1 = new Foo();
+        foo1.setTitle("foo1 title");
+        foo1.setNumber(1);
+        Map<String, Object> context = ognlUtil.createDefaultContext(foo1);
+
+        Foo foo2 = new Foo();
+        ognlUtil.copy(foo1, foo2, context, null, List.of("title"));
+        Foo foo3 = new Foo();
+        ognlUtil.copy(foo1, foo3, context, null, List.of("number"));
+        Foo foo4 = new Foo();
+        ognlUtil.copy(foo1, foo4, context, List.of("number"), null);
+
+        assertEquals("foo1 title", foo2.getTitle());
+        assertEquals(0, foo2.getNumber());
+        assertNull(foo3.getTitle());
+        assertEquals(1, foo3.getNumber());
+        assertEquals("foo1 title", foo4.getTitle());
+        assertEquals(0, foo4.getNumber());
+    }
+
+    public void testCopyFailingGetterSkipsProperty() {
+        FailingBean failing = new FailingBean();
+        failing.setTitle("copied");
+        Foo foo = new Foo();
+        foo.setNumber(3);
+
+        ognlUtil.copy(failing, foo, ognlUtil.createDefaultContext(failing));
+
+        assertEquals("copied", foo.getTitle());
+        assertEquals(3, foo.getNumber());
+    }
+
+    public void testCopyDoesNotReadFromExcludedClass() {
+        resetOgnlUtil(Map.of(StrutsConstants.STRUTS_EXCLUDED_CLASSES, TextBean.class.getName()));
+        TextBean text = new TextBean();
+        text.setTitle("secret");
+        Foo foo = new Foo();
+
+        ognlUtil.copy(text, foo, ognlUtil.createDefaultContext(text), null, List.of("title"));
+
+        assertNull(foo.getTitle());
+    }
+
+    public void testCopyDoesNotWriteToExcludedClass() {
+        resetOgnlUtil(Map.of(StrutsConstants.STRUTS_EXCLUDED_CLASSES, TextBean.class.getName()));
+        Foo foo = new Foo();
+        foo.setTitle("secret");
+        TextBean text = new TextBean();
+
+        ognlUtil.copy(foo, text, ognlUtil.createDefaultContext(foo), null, List.of("title"));
+
+        assertNull(text.getTitle());
+    }
+
+    public void testCopyToBeanWithoutExclusion() {
+        Foo foo = new Foo();
+        foo.setTitle("copied");
+        TextBean text = new TextBean();
+
+        ognlUtil.copy(foo, text, ognlUtil.createDefaultContext(foo), null, List.of("title"));
+
+        assertEquals("copied", text.getTitle());
+    }
+
+    public void testCopierUsesMethodHandlesForBeans() throws Exception {
+        PropertyCopier.Key key = PropertyCopier.key(TextBean.class, Foo.class, null, List.of("title", "number"));
+        PropertyCopier copier = PropertyCopier.create(key,
+                ognlUtil.getPropertyDescriptors(TextBean.class), ognlUtil.getPropertyDescriptors(Foo.class));
+
+        assertEquals(2, copier.getProperties().size());
+        for (PropertyCopier.CopiedProperty property : copier.getProperties()) {
+            assertTrue(property.hasGetter());
+        }
+        PropertyCopier.CopiedProperty number = copier.getProperties().stream()
+                .filter(property -> property.getName().equals("number")).findFirst().orElseThrow();
+        Foo foo = new Foo();
+        assertTrue(number.canSet(foo, 1));
+        assertFalse(number.canSet(foo, "1"));
+        assertFalse(number.canSet(foo, null));
+
+        PropertyCopier mapCopier = PropertyCopier.create(PropertyCopier.key(HashMap.class, Foo.class, null, null),
+                ognlUtil.getPropertyDescriptors(HashMap.class), ognlUtil.getPropertyDescriptors(Foo.class));
+        for (PropertyCopier.CopiedProperty property : mapCopier.getProperties()) {
+            assertFalse(property.hasGetter());
+        }
+    }
+
     public void testDeepSetting() {
         Foo foo = new Foo();
         foo.setBar(new Bar());
@@ -1849,4 +1949,41 @@ public class OgnlUtilTest extends XWorkTestCase {
     public static <K, V> DefaultOgnlBeanInfoCacheFactory<K, V> createDefaultOgnlBeanInfoCacheFactory() {
         return new DefaultOgnlBeanInfoCacheFactory<>(String.valueOf(10_000), BASIC.toString());
     }
+
+    public static class TextBean {
+        private String title;
+        private String number;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public void setNumber(String number) {
+            this.number = number;
+        }
+    }
+
+    public static class FailingBean {
+        private String title;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public int getNumber() {
+            throw new IllegalStateException("not available");
+        }
+    }
 }
@@ -1234,6 +1234,28 @@ public class OgnlValueStackTest extends XWorkTestCase {
         assertNull("accessed private field (result not null) ?", accessedValue);
     }
 
+    public void testOgnlValueStackFromOgnlValueStackFactoryIsPreWired() throws IllegalAccessException {
+        loadButSet(Map.of(
+                StrutsConstants.STRUTS_DEVMODE, Boolean.TRUE.toString(),
+                StrutsConstants.STRUTS_OGNL_LOG_MISSING_PROPERTIES, Boolean.TRUE.toString(),
+                StrutsConstants.STRUTS_OGNL_VALUE_STACK_FALLBACK_TO_CONTEXT, Boolean.FALSE.toString()));
+        refreshContainerFields();
+
+        assertSame(ognlUtil, vs.ognlUtil);
+        assertTrue(reflectField(vs, "devMode"));
+        assertTrue(reflectField(vs, "logMissingProperties"));
+        assertFalse(reflectField(vs, "shouldFallbackToContext"));
+        assertSame(container, vs.getActionContext().getContainer());
+
+        OgnlValueStack copy = (OgnlValueStack) container.getInstance(ValueStackFactory.class).createValueStack(vs);
+
+        assertSame(ognlUtil, copy.ognlUtil);
+        assertTrue(reflectField(copy, "devMode"));
+        assertTrue(reflectField(copy, "logMissingProperties"));
+        assertFalse(reflectField(copy, "shouldFallbackToContext"));
+        assertSame(copy, copy.getActionContext().getValueStack());
+    }
+
     public void testFindValueWithConstructorAndProxyChecks() {
         loadButSet(Map.of(
                 StrutsConstants.STRUTS_DISALLOW_PROXY_OBJECT_ACCESS, Boolean.TRUE.toString(),
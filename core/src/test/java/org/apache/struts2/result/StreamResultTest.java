@@ -25,13 +25,18 @@ import org.apache.struts2.util.ClassLoaderUtil;
 import org.apache.struts2.util.ValueStack;
 import org.apache.struts2.ServletActionContext;
 import org.apache.struts2.StrutsInternalTestCase;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.apache.struts2.security.DefaultNotExcludedAcceptedPatternsCheckerTest.NO_EXCLUSION_ACCEPT_ALL_PATTERNS_CHECKER;
 
@@ -41,6 +46,7 @@ import static org.apache.struts2.security.DefaultNotExcludedAcceptedPatternsChec
 public class StreamResultTest extends StrutsInternalTestCase {
 
     private StreamResult result;
+    private MockHttpServletRequest request;
     private MockHttpServletResponse response;
 
     private MockActionInvocation mai;
@@ -222,7 +228,7 @@ public class StreamResultTest extends StrutsInternalTestCase {
             result.doExecute("helloworld", mai);
             fail("double evaluation?!");
         } catch (IllegalArgumentException e) {
-            assertEquals("Can not find a java.io.InputStream with the name [getStreamForImage()] in the " +
+            assertEquals("Can not find a java.io.InputStream, java.nio.file.Path or java.io.File with the name [getStreamForImage()] in the " +
                     "invocation stack. Check the <param name=\"inputName\"> tag specified for this action is correct, " +
                     "not excluded and accepted.", e.getMessage());
         }
@@ -243,6 +249,84 @@ public class StreamResultTest extends StrutsInternalTestCase {
         assertNotNull(result.inputStream);
     }
 
+    public void testStreamFile() throws Exception {
+        result.setInputName("fileForImage");
+
+        result.doExecute("helloworld", mai);
+
+        byte[] expected = Files.readAllBytes(fileForImage());
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(contentLength, response.getContentLength());
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertNotNull(response.getHeader("ETag"));
+        assertTrue(response.containsHeader("Last-Modified"));
+        assertEquals(new String(expected), response.getContentAsString());
+    }
+
+    public void testStreamFileRange() throws Exception {
+        result.setInputName("fileForImage");
+        request.addHeader("Range", "bytes=10-19");
+
+        result.doExecute("helloworld", mai);
+
+        byte[] expected = Files.readAllBytes(fileForImage());
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertEquals("bytes 10-19/" + contentLength, response.getHeader("Content-Range"));
+        assertEquals(10, response.getContentLength());
+        assertEquals(new String(expected, 10, 10), response.getContentAsString());
+    }
+
+    public void testStreamFileSuffixRange() throws Exception {
+        result.setInputName("fileForImage");
+        request.addHeader("Range", "bytes=-5");
+
+        result.doExecute("helloworld", mai);
+
+        assertEquals(HttpServletResponse.SC_PARTIAL_CONTENT, response.getStatus());
+        assertEquals("bytes " + (contentLength - 5) + "-" + (contentLength - 1) + "/" + contentLength, response.getHeader("Content-Range"));
+        assertEquals(5, response.getContentAsByteArray().length);
+    }
+
+    public void testStreamFileRangeNotSatisfiable() throws Exception {
+        result.setInputName("fileForImage");
+        request.addHeader("Range", "bytes=" + contentLength + "-");
+
+        result.doExecute("helloworld", mai);
+
+        assertEquals(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatus());
+        assertEquals("bytes */" + contentLength, response.getHeader("Content-Range"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    public void testStreamFileIfRangeMismatch() throws Exception {
+        result.setInputName("fileForImage");
+        request.addHeader("Range", "bytes=10-19");
+        request.addHeader("If-Range", "\"other\"");
+
+        result.doExecute("helloworld", mai);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(contentLength, response.getContentAsByteArray().length);
+    }
+
+    public void testStreamFileNotModified() throws Exception {
+        result.setInputName("fileForImage");
+        result.doExecute("helloworld", mai);
+        String etag = response.getHeader("ETag");
+
+        response = new MockHttpServletResponse();
+        ActionContext.getContext().withServletResponse(response);
+        request.addHeader("If-None-Match", etag);
+        result.doExecute("helloworld", mai);
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    private Path fileForImage() {
+        return ((MyImageAction) mai.getAction()).getFileForImage();
+    }
+
     protected void setUp() throws Exception {
         super.setUp();
         response = new MockHttpServletResponse();
@@ -262,6 +346,8 @@ public class StreamResultTest extends StrutsInternalTestCase {
         stack.push(action);
 
         ActionContext.getContext().put(ServletActionContext.HTTP_RESPONSE, response);
+        request = new MockHttpServletRequest();
+        ActionContext.getContext().withServletRequest(request);
     }
 
 
@@ -277,6 +363,7 @@ public class StreamResultTest extends StrutsInternalTestCase {
     public static class MyImageAction implements Action {
 
         FileInputStream streamForImage;
+        File fileForImage;
         long contentLength;
 
         public MyImageAction() throws Exception {
@@ -284,9 +371,14 @@ public class StreamResultTest extends StrutsInternalTestCase {
             URL url = ClassLoaderUtil.getResource("log4j2.xml", StreamResultTest.class);
             File file = new File(new URI(url.toString()));
             streamForImage = new FileInputStream(file);
+            fileForImage = file;
             contentLength = file.length();
         }
 
+        public Path getFileForImage() {
+            return fileForImage.toPath();
+        }
+
         public InputStream getStreamForImage() {
             return streamForImage;
         }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.result;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.StrutsInternalTestCase;
+import org.apache.struts2.mock.MockActionInvocation;
+import org.apache.struts2.util.ValueStack;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.stream.Stream;
+
+/**
+ * Unit test for {@link StreamingResult} and {@link SseResult}.
+ */
+public class StreamingResultTest extends StrutsInternalTestCase {
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private MockActionInvocation invocation;
+    private ValueStack stack;
+
+    public void testStreamIterableWithoutAsyncSupport() throws Exception {
+        stack.push(Map.of("stream", List.of("one", "two")));
+
+        StreamingResult result = new StreamingResult();
+        result.execute(invocation);
+
+        assertEquals("text/plain;charset=UTF-8", response.getContentType());
+        assertEquals("onetwo", response.getContentAsString());
+    }
+
+    public void testMissingSource() throws Exception {
+        StreamingResult result = new StreamingResult();
+        result.setSourceName("missing");
+
+        try {
+            result.execute(invocation);
+            fail("Should have thrown an IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+
+    public void testStreamPublisherWithAsyncIO() throws Exception {
+        request.setAsyncSupported(true);
+        NonBlockingOutputStream out = new NonBlockingOutputStream();
+        invocation.getInvocationContext().withServletResponse(new HttpServletResponseWrapper(response) {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return out;
+            }
+        });
+
+        SubmissionPublisher<String> publisher = new SubmissionPublisher<>(Runnable::run, 16);
+        stack.push(Map.of("stream", publisher));
+
+        new StreamingResult().execute(invocation);
+        assertTrue(request.isAsyncStarted());
+
+        publisher.submit("one");
+        out.ready = false;
+        publisher.submit("two");
+        assertEquals("one", out.content());
+
+        out.ready = true;
+        out.listener.onWritePossible();
+        assertEquals("onetwo", out.content());
+
+        publisher.close();
+        assertFalse("response should be completed", request.isAsyncStarted());
+    }
+
+    public void testStreamServerSentEvents() throws Exception {
+        stack.push(Map.of("events", Stream.of("plain", SseResult.Event.of("update", "line1\nline2"),
+                new SseResult.Event("7", null, 42))));
+
+        SseResult result = new SseResult();
+        result.setRetry(5000L);
+        result.execute(invocation);
+
+        assertEquals("text/event-stream;charset=UTF-8", response.getContentType());
+        assertEquals("no-cache", response.getHeader("Cache-Control"));
+        assertEquals("retry: 5000\ndata: plain\n\n" +
+                "event: update\ndata: line1\ndata: line2\n\n" +
+                "id: 7\ndata: 42\n\n", response.getContentAsString());
+    }
+
+    public void testEventIdAndNameCannotBreakLines() {
+        for (String id : List.of("1\ndata: injected", "1\r", "1\0")) {
+            try {
+                new SseResult.Event(id, null, "data");
+                fail("id [" + id + "] should be rejected");
+            } catch (IllegalArgumentException expected) {
+                // ok
+            }
+        }
+        try {
+            SseResult.Event.of("update\r\n\nevent: injected", "data");
+            fail("name with line breaks should be rejected");
+        } catch (IllegalArgumentException expected) {
+            // ok
+        }
+        assertEquals("update", SseResult.Event.of("update", "line1\nline2").name());
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+        stack = ActionContext.getContext().getValueStack();
+
+        invocation = new MockActionInvocation();
+        invocation.setStack(stack);
+        invocation.setInvocationContext(ActionContext.getContext()
+                .withServletRequest(request)
+                .withServletResponse(response));
+    }
+
+    private static class NonBlockingOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private WriteListener listener;
+        private volatile boolean ready = true;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            listener = writeListener;
+            try {
+                listener.onWritePossible();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+        private String content() {
+            return bytes.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
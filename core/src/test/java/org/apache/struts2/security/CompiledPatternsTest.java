@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.security;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompiledPatternsTest {
+
+    private static Set<Pattern> patterns(String... regexes) {
+        return Arrays.stream(regexes)
+                .map(regex -> Pattern.compile(regex, Pattern.CASE_INSENSITIVE))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static CompiledPatterns<String> compile(Set<Pattern> patterns) {
+        return new CompiledPatterns<>(patterns, Pattern::pattern, "none");
+    }
+
+    @Test
+    public void matchesFirstPatternInOrder() {
+        CompiledPatterns<String> compiled = compile(patterns("(a)(b)?c+", "a(b|x)c", "\\w+"));
+
+        assertThat(compiled.check("ac")).isEqualTo("(a)(b)?c+");
+        assertThat(compiled.check("axc")).isEqualTo("a(b|x)c");
+        assertThat(compiled.check("ABC")).isEqualTo("(a)(b)?c+");
+        assertThat(compiled.check("other")).isEqualTo("\\w+");
+        assertThat(compiled.check("a.b")).isEqualTo("none");
+    }
+
+    @Test
+    public void matchesWholeValue() {
+        CompiledPatterns<String> compiled = compile(patterns("abc", "def"));
+
+        assertThat(compiled.check("abcdef")).isEqualTo("none");
+        assertThat(compiled.check("")).isEqualTo("none");
+    }
+
+    @Test
+    public void inlineFlagsStayWithinPattern() {
+        CompiledPatterns<String> compiled = compile(patterns("(?-i)abc", "def"));
+
+        assertThat(compiled.check("ABC")).isEqualTo("none");
+        assertThat(compiled.check("DEF")).isEqualTo("def");
+    }
+
+    @Test
+    public void backReferencesAreTestedOneByOne() {
+        CompiledPatterns<String> compiled = compile(patterns("x(y)", "(a)\\1", "\\Q(\\E"));
+
+        assertThat(compiled.check("aa")).isEqualTo("(a)\\1");
+        assertThat(compiled.check("xy")).isEqualTo("x(y)");
+        assertThat(compiled.check("(")).isEqualTo("\\Q(\\E");
+        assertThat(compiled.check("ay")).isEqualTo("none");
+    }
+
+    @Test
+    public void emptyPatterns() {
+        assertThat(compile(Set.of()).check("value")).isEqualTo("none");
+    }
+
+    @Test
+    public void cachedVerdictsAreBounded() {
+        CompiledPatterns<String> compiled = compile(patterns("\\d+", "[a-z]+"));
+
+        for (int i = 0; i < CompiledPatterns.VERDICT_CACHE_SIZE * 3; i++) {
+            assertThat(compiled.check(String.valueOf(i))).isEqualTo("\\d+");
+        }
+        assertThat(compiled.check("a".repeat(CompiledPatterns.MAX_CACHED_VALUE_LENGTH + 1))).isEqualTo("[a-z]+");
+    }
+
+    @Test
+    public void isForTheSameSet() {
+        Set<Pattern> patterns = patterns("a");
+
+        assertThat(compile(patterns).isFor(patterns)).isTrue();
+        assertThat(compile(patterns).isFor(patterns("a"))).isFalse();
+    }
+}
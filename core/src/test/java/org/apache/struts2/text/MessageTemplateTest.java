@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.text;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MessageTemplateTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "",
+            "plain text",
+            "Hello {0}!",
+            "{0}{1}{0}",
+            "{1} of {0} and {5}",
+            "It''s {0}",
+            "'{0}' is quoted, {0} is not",
+            "'It''s quoted' {0}",
+            "'unterminated {0}",
+            "{0,number}",
+            "{0,number,integer} items, {1,number,percent}",
+            "{0,number,#,##0.00} total",
+            "{0, number, currency}",
+            "{0,date,short} at {0,time,short}",
+            "{0,date,yyyy-MM-dd'T'HH}",
+            "{0,choice,0#no files|1#one file|1<{0,number,integer} files}",
+            "{0} {0,choice,0#zero|1#'{1}'}"
+    );
+
+    private static final List<Object[]> ARGS = List.of(
+            new Object[]{1234.5, 0.25, "x", null, 3, "six"},
+            new Object[]{"text", new Date(0L), BigDecimal.TEN},
+            new Object[]{0},
+            new Object[]{null},
+            new Object[0]
+    );
+
+    @Test
+    public void formatsLikeMessageFormat() {
+        for (Locale locale : List.of(Locale.ENGLISH, Locale.GERMANY, new Locale("ar", "EG"))) {
+            for (String pattern : PATTERNS) {
+                MessageTemplate template = new MessageTemplate(pattern, locale);
+                for (Object[] args : ARGS) {
+                    assertThat(format(template, args))
+                            .as("pattern [%s] locale [%s]", pattern, locale)
+                            .isEqualTo(format(messageFormat(pattern, locale), args));
+                }
+                assertThat(template.format(null)).isEqualTo(messageFormat(pattern, locale).format(null));
+            }
+        }
+    }
+
+    @Test
+    public void defaultFormatsForNumbersAndDates() {
+        MessageTemplate template = new MessageTemplate("{0} - {1} - {2}", Locale.GERMANY);
+        Date date = new Date(0L);
+
+        assertThat(template.format(new Object[]{1234.5, date, new StringBuilder("sb")}))
+                .isEqualTo(messageFormat("{0} - {1} - {2}", Locale.GERMANY).format(new Object[]{1234.5, date, "sb"}))
+                .startsWith("1.234,5 - ");
+    }
+
+    @Test
+    public void invalidPatternIsRejected() {
+        assertThatThrownBy(() -> new MessageTemplate("{0", Locale.ENGLISH)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MessageTemplate("{x}", Locale.ENGLISH)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void messageFormatIsCopied() {
+        MessageTemplate template = new MessageTemplate("{0,number,integer}", Locale.ENGLISH);
+
+        MessageFormat copy = template.toMessageFormat();
+        copy.applyPattern("changed {0}");
+
+        assertThat(template.format(new Object[]{42})).isEqualTo("42");
+        assertThat(template.toMessageFormat().toPattern()).isEqualTo("{0,number,integer}");
+    }
+
+    @Test
+    public void formatsConcurrently() throws Exception {
+        MessageTemplate template = new MessageTemplate("{0,number,#,##0.00} / {1,date,yyyy-MM-dd}", Locale.ENGLISH);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int n = i;
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        Object[] args = {n * 1000 + j, new Date(0L)};
+                        if (!template.format(args).equals(messageFormat("{0,number,#,##0.00} / {1,date,yyyy-MM-dd}", Locale.ENGLISH).format(args))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static MessageFormat messageFormat(String pattern, Locale locale) {
+        MessageFormat format = new MessageFormat(pattern);
+        format.setLocale(locale);
+        format.applyPattern(pattern);
+        return format;
+    }
+
+    private static String format(MessageTemplate template, Object[] args) {
+        try {
+            return template.format(args);
+        } catch (IllegalArgumentException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static String format(MessageFormat format, Object[] args) {
+        try {
+            return format.format(args);
+        } catch (IllegalArgumentException e) {
+            return e.getClass().getName();
+        }
+    }
+}
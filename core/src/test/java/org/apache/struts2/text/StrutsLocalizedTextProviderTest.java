@@ -357,6 +357,35 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
                 2, testStrutsLocalizedTextProvider.currentBundlesMapSize());
     }
 
+    public void testMessageIndexFollowsResolutionOrder() {
+        TestStrutsLocalizedTextProvider testStrutsLocalizedTextProvider = new TestStrutsLocalizedTextProvider();
+        container.inject(testStrutsLocalizedTextProvider);
+        ValueStack stack = ActionContext.getContext().getValueStack();
+
+        // class bundle wins over the package and default bundles, indexed key is resolved from the same index
+        assertEquals("This is the value in the Bar properties!", testStrutsLocalizedTextProvider.findText(Bar.class,
+                "compare.sameproperty.differentbundles", Locale.ENGLISH, null, new Object[0], stack));
+        assertEquals("Indexed title text for test!", testStrutsLocalizedTextProvider.findText(Bar.class,
+                "title.indexed[5]", Locale.ENGLISH, null, new Object[0], stack));
+        assertEquals("Title:", testStrutsLocalizedTextProvider.findText(Bar.class,
+                "title", Locale.ENGLISH, null, new Object[0], stack));
+        assertTrue("message index not built on first use ?", testStrutsLocalizedTextProvider.currentMessageIndexesSize() > 0);
+
+        // package bundles are searched once the class hierarchy gave no message
+        assertEquals("It works!", testStrutsLocalizedTextProvider.findText(ModelDrivenAction2.class,
+                "package.properties", Locale.ENGLISH, null, new Object[0], stack));
+        assertNull(testStrutsLocalizedTextProvider.findText(Bar.class,
+                "missing.key", Locale.ENGLISH, null, new Object[0], stack));
+
+        testStrutsLocalizedTextProvider.callClearMissingBundlesCache();
+        assertEquals(0, testStrutsLocalizedTextProvider.currentMessageIndexesSize());
+
+        testStrutsLocalizedTextProvider.findText(Bar.class, "title", Locale.ENGLISH, null, new Object[0], stack);
+        assertTrue(testStrutsLocalizedTextProvider.currentMessageIndexesSize() > 0);
+        testStrutsLocalizedTextProvider.callReloadBundlesForceReload();
+        assertEquals(0, testStrutsLocalizedTextProvider.currentMessageIndexesSize());
+    }
+
     /**
      * Test the {@link StrutsLocalizedTextProvider#searchDefaultBundlesFirst} flag behaviour for basic correctness.
      */
@@ -591,6 +620,10 @@ public class StrutsLocalizedTextProviderTest extends XWorkTestCase {
             return super.bundlesMap.size();
         }
 
+        public int currentMessageIndexesSize() {
+            return messageIndexes.size();
+        }
+
         /**
          * Attempt to force the resource bundles to be reloaded, even if configuration would otherwise prevent it.
          * It will preserve the current reloadBundles state, attempt to force a reload and then restore the
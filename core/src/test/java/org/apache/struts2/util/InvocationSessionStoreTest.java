@@ -24,6 +24,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.struts2.StrutsInternalTestCase;
 import org.springframework.mock.web.MockPageContext;
@@ -58,6 +59,40 @@ public class InvocationSessionStoreTest extends StrutsInternalTestCase {
         assertEquals(invocation, InvocationSessionStore.loadInvocation(INVOCATION_KEY, TOKEN_VALUE));
     }
 
+    public void testStoreWithTimeToLive() throws Exception {
+        InvocationSessionStore.storeInvocation(INVOCATION_KEY, TOKEN_VALUE, invocation, 60_000);
+        assertEquals(invocation, InvocationSessionStore.loadInvocation(INVOCATION_KEY, TOKEN_VALUE));
+
+        InvocationSessionStore.storeInvocation(INVOCATION_KEY, TOKEN_VALUE, invocation, 1);
+        Thread.sleep(10);
+        assertNull(InvocationSessionStore.loadInvocation(INVOCATION_KEY, TOKEN_VALUE));
+        assertTrue(InvocationSessionStore.getInvocationMap().isEmpty());
+    }
+
+    public void testStoreEvictsExpiredInvocations() throws Exception {
+        InvocationSessionStore.storeInvocation(INVOCATION_KEY, TOKEN_VALUE, invocation, 1);
+        Thread.sleep(10);
+        InvocationSessionStore.storeInvocation("other", TOKEN_VALUE, invocation);
+
+        assertEquals(1, InvocationSessionStore.getInvocationMap().size());
+        assertEquals(invocation, InvocationSessionStore.loadInvocation("other", TOKEN_VALUE));
+    }
+
+    public void testInvocationMapIsStoredOnce() {
+        InvocationSessionStore.storeInvocation(INVOCATION_KEY, TOKEN_VALUE, invocation);
+        Object invocationMap = session.get("org.apache.struts2.util.InvocationSessionStore.invocationMap");
+        session.put("org.apache.struts2.util.InvocationSessionStore.invocationMap", new HashMap<>((Map<?, ?>) invocationMap));
+
+        // a plain map restored from an older session is migrated
+        assertEquals(invocation, InvocationSessionStore.loadInvocation(INVOCATION_KEY, TOKEN_VALUE));
+        invocationMap = session.get("org.apache.struts2.util.InvocationSessionStore.invocationMap");
+        assertTrue(invocationMap instanceof ConcurrentMap);
+
+        InvocationSessionStore.storeInvocation("other", TOKEN_VALUE, invocation);
+        assertSame(invocationMap, session.get("org.apache.struts2.util.InvocationSessionStore.invocationMap"));
+        assertEquals(2, ((Map<?, ?>) invocationMap).size());
+    }
+
     public void testValueStackReset() {
         ActionContext actionContext = ActionContext.getContext();
         assertEquals(stack, actionContext.getValueStack());
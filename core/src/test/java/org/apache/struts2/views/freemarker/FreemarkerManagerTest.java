@@ -21,6 +21,7 @@ package org.apache.struts2.views.freemarker;
 import org.apache.struts2.util.fs.DefaultFileManagerFactory;
 import freemarker.template.Configuration;
 import freemarker.template.Template;
+import freemarker.template.TemplateException;
 import freemarker.template.Version;
 import org.apache.commons.io.FileUtils;
 import org.apache.struts2.StrutsInternalTestCase;
@@ -29,8 +30,16 @@ import org.apache.struts2.views.jsp.StrutsMockServletContext;
 import jakarta.servlet.ServletContext;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Test case for FreemarkerManager
@@ -101,6 +110,49 @@ public class FreemarkerManagerTest extends StrutsInternalTestCase {
         assertEquals("<input type=\"text\" onclick=\"this.alert('It&#39;s an error message')\"/>", out.toString());
     }
 
+    public void testConcurrentGetConfigurationInitialisesOnce() throws Exception {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        FreemarkerManager manager = new FreemarkerManager() {
+            @Override
+            protected Configuration createConfiguration(ServletContext servletContext) throws TemplateException {
+                created.incrementAndGet();
+                return super.createConfiguration(servletContext);
+            }
+        };
+        container.inject(manager);
+
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Configuration>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    Configuration configuration = null;
+                    for (int j = 0; j < 1000; j++) {
+                        configuration = manager.getConfiguration(servletContext);
+                    }
+                    return configuration;
+                }));
+            }
+
+            // when
+            start.countDown();
+
+            // then
+            for (Future<Configuration> result : results) {
+                Configuration configuration = result.get(30, TimeUnit.SECONDS);
+                assertNotNull(configuration);
+                assertSame(manager.getConfig(), configuration);
+            }
+            assertEquals(1, created.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void testIncompatibleImprovementsByServletContext() throws Exception {
         // given
         servletContext.setInitParameter("freemarker.incompatible_improvements", "2.3.32");
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.jsp;
+
+import jakarta.servlet.jsp.JspException;
+import jakarta.servlet.jsp.tagext.BodyTag;
+import jakarta.servlet.jsp.tagext.Tag;
+import org.apache.struts2.StrutsException;
+import org.apache.struts2.components.Cache;
+import org.apache.struts2.components.cache.FragmentCache;
+import org.apache.struts2.views.jsp.ui.StrutsBodyContent;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CacheTagTest extends AbstractTagTest {
+
+    public void testRendersBodyOnlyOnce() throws Exception {
+        assertEquals(BodyTag.EVAL_BODY_BUFFERED, render("'menu'", null, null, "first"));
+        assertEquals("first", writer.toString());
+
+        assertEquals(Tag.SKIP_BODY, render("'menu'", null, null, "second"));
+        assertEquals("firstfirst", writer.toString());
+        assertNotNull(servletContext.getAttribute(Cache.FRAGMENT_CACHE_KEY));
+    }
+
+    public void testKeyIsEvaluated() throws Exception {
+        stack.getContext().put("role", "admin");
+        render("'menu_' + #role", null, null, "admin");
+
+        stack.getContext().put("role", "user");
+        assertEquals(BodyTag.EVAL_BODY_BUFFERED, render("'menu_' + #role", null, null, "user"));
+        assertEquals("adminuser", writer.toString());
+
+        FragmentCache cache = (FragmentCache) servletContext.getAttribute(Cache.FRAGMENT_CACHE_KEY);
+        assertEquals("admin", cache.get("menu_admin"));
+        assertEquals("user", cache.get("menu_user"));
+    }
+
+    public void testSessionScope() throws Exception {
+        render("'menu'", null, "session", "session");
+
+        FragmentCache cache = (FragmentCache) session.get(Cache.FRAGMENT_CACHE_KEY);
+        assertEquals("session", cache.get("menu"));
+        assertNull(servletContext.getAttribute(Cache.FRAGMENT_CACHE_KEY));
+    }
+
+    public void testZeroTtlDisablesCaching() throws Exception {
+        render("'menu'", "0", null, "first");
+        assertEquals(BodyTag.EVAL_BODY_BUFFERED, render("'menu'", "0", null, "second"));
+
+        assertEquals("firstsecond", writer.toString());
+    }
+
+    public void testInvalidTtl() {
+        assertThatThrownBy(() -> render("'menu'", "soon", null, "first")).isInstanceOf(StrutsException.class);
+    }
+
+    public void testKeyIsRequired() {
+        assertThatThrownBy(() -> render(null, null, null, "first")).isInstanceOf(StrutsException.class);
+    }
+
+    private int render(String key, String ttl, String scope, String body) throws JspException, IOException {
+        CacheTag tag = new CacheTag();
+        tag.setPageContext(pageContext);
+        tag.setKey(key);
+        tag.setTtl(ttl);
+        tag.setScope(scope);
+
+        int result = tag.doStartTag();
+        if (result != Tag.SKIP_BODY) {
+            StrutsBodyContent bodyContent = new StrutsBodyContent(null);
+            bodyContent.print(body);
+            tag.setBodyContent(bodyContent);
+        }
+        tag.doEndTag();
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+/**
+ * Constants used to configure the Async plugin
+ *
+ * @since 7.1.1
+ */
+public class AsyncConstants {
+
+    /**
+     * Executor used to run async actions: "auto" (virtual threads when available, a bounded pool otherwise),
+     * "pool" or "virtual"
+     */
+    public static final String STRUTS_ASYNC_EXECUTOR_MODE = "struts.async.executor.mode";
+
+    /**
+     * Number of threads of the shared pool
+     */
+    public static final String STRUTS_ASYNC_EXECUTOR_POOL_SIZE = "struts.async.executor.poolSize";
+
+    /**
+     * Number of async actions waiting for a free thread of the shared pool, further actions are rejected
+     */
+    public static final String STRUTS_ASYNC_EXECUTOR_QUEUE_CAPACITY = "struts.async.executor.queueCapacity";
+
+    /**
+     * Number of async actions running at once on virtual threads, further actions are rejected
+     */
+    public static final String STRUTS_ASYNC_EXECUTOR_MAX_CONCURRENT = "struts.async.executor.maxConcurrent";
+
+    /**
+     * Default timeout in milliseconds of async processing, used when {@link AsyncAction} doesn't define one
+     */
+    public static final String STRUTS_ASYNC_TIMEOUT = "struts.async.timeout";
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs async actions which don't provide their own {@link java.util.concurrent.Executor}
+ * and exposes basic statistics of the executor.
+ *
+ * @since 7.1.1
+ */
+public interface AsyncExecutor {
+
+    /**
+     * Submits the task for execution
+     *
+     * @param task the task to run
+     * @return future allowing to cancel the task, e.g. when the async processing timed out
+     * @throws RejectedExecutionException when the executor is saturated or shut down
+     */
+    Future<?> submit(Runnable task);
+
+    /**
+     * @return number of tasks being executed right now
+     */
+    int getActiveCount();
+
+    /**
+     * @return number of tasks waiting for a thread
+     */
+    int getQueueSize();
+
+    /**
+     * @return number of finished tasks
+     */
+    long getCompletedCount();
+
+    /**
+     * @return number of tasks rejected because the executor was saturated
+     */
+    long getRejectedCount();
+
+    boolean isShutdown();
+
+    void shutdown();
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.dispatcher.Dispatcher;
+import org.apache.struts2.dispatcher.DispatcherListener;
+import org.apache.struts2.inject.Initializable;
+import org.apache.struts2.inject.Inject;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default {@link AsyncExecutor}, depending on "struts.async.executor.mode" it uses:
+ * <ul>
+ *     <li>pool - a shared pool of "struts.async.executor.poolSize" threads with a queue
+ *     of "struts.async.executor.queueCapacity" waiting tasks</li>
+ *     <li>virtual - a new virtual thread per task, limited to "struts.async.executor.maxConcurrent" running tasks,
+ *     available since JDK 21 which is detected at runtime</li>
+ *     <li>auto - virtual threads when supported by the running JDK, the shared pool otherwise</li>
+ * </ul>
+ * Tasks exceeding the limits are rejected with {@link RejectedExecutionException}. The executor is shut down
+ * together with the {@link Dispatcher}.
+ *
+ * @since 7.1.1
+ */
+public class DefaultAsyncExecutor implements AsyncExecutor, Initializable, DispatcherListener {
+
+    private static final Logger LOG = LogManager.getLogger(DefaultAsyncExecutor.class);
+
+    public static final String MODE_AUTO = "auto";
+    public static final String MODE_POOL = "pool";
+    public static final String MODE_VIRTUAL = "virtual";
+
+    private String mode = MODE_AUTO;
+    private int poolSize = 20;
+    private int queueCapacity = 100;
+    private int maxConcurrent = 1000;
+
+    private ExecutorService executor;
+    private ThreadPoolExecutor pool;
+    private Semaphore permits;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_EXECUTOR_MODE, required = false)
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_EXECUTOR_POOL_SIZE, required = false)
+    public void setPoolSize(String poolSize) {
+        this.poolSize = Integer.parseInt(poolSize);
+    }
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_EXECUTOR_QUEUE_CAPACITY, required = false)
+    public void setQueueCapacity(String queueCapacity) {
+        this.queueCapacity = Integer.parseInt(queueCapacity);
+    }
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_EXECUTOR_MAX_CONCURRENT, required = false)
+    public void setMaxConcurrent(String maxConcurrent) {
+        this.maxConcurrent = Integer.parseInt(maxConcurrent);
+    }
+
+    @Override
+    public void init() {
+        ExecutorService virtual = null;
+        if (MODE_VIRTUAL.equalsIgnoreCase(mode) || MODE_AUTO.equalsIgnoreCase(mode)) {
+            virtual = createVirtualThreadExecutor();
+            if (virtual == null && MODE_VIRTUAL.equalsIgnoreCase(mode)) {
+                LOG.warn("Virtual threads are not supported by Java {}, using a pool of {} threads instead",
+                        Runtime.version().feature(), poolSize);
+            }
+        } else if (!MODE_POOL.equalsIgnoreCase(mode)) {
+            LOG.warn("Unknown async executor mode [{}], using a pool of {} threads", mode, poolSize);
+        }
+
+        if (virtual != null) {
+            LOG.debug("Running async actions on virtual threads, up to {} at once", maxConcurrent);
+            executor = virtual;
+            permits = new Semaphore(maxConcurrent);
+        } else {
+            LOG.debug("Running async actions on a pool of {} threads with a queue of {} tasks", poolSize, queueCapacity);
+            pool = createPool();
+            executor = pool;
+        }
+        Dispatcher.addDispatcherListener(this);
+    }
+
+    protected ThreadPoolExecutor createPool() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor threadPool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), runnable -> {
+            Thread thread = new Thread(runnable, "struts-async-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        threadPool.allowCoreThreadTimeOut(true);
+        return threadPool;
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread for each task
+     *
+     * @return the executor or null if virtual threads aren't supported by the running JDK
+     */
+    protected ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.trace("Virtual threads are not available", e);
+            return null;
+        }
+    }
+
+    public boolean isVirtual() {
+        return permits != null;
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        if (permits != null && !permits.tryAcquire()) {
+            rejected.increment();
+            throw new RejectedExecutionException("Too many async actions running: " + maxConcurrent);
+        }
+        FutureTask<Void> future = new FutureTask<>(task, null) {
+            @Override
+            public void run() {
+                active.incrementAndGet();
+                try {
+                    super.run();
+                } finally {
+                    active.decrementAndGet();
+                }
+            }
+
+            @Override
+            protected void done() {
+                // called once the task finished or was cancelled, even if it never started
+                completed.increment();
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        };
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            if (permits != null) {
+                permits.release();
+            }
+            rejected.increment();
+            throw e;
+        }
+        return future;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return pool == null ? 0 : pool.getQueue().size();
+    }
+
+    @Override
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    @Override
+    public void shutdown() {
+        LOG.debug("Shutting down async executor");
+        executor.shutdown();
+    }
+
+    @Override
+    public void dispatcherInitialized(Dispatcher du) {
+    }
+
+    @Override
+    public void dispatcherDestroyed(Dispatcher du) {
+        Dispatcher.removeDispatcherListener(this);
+        shutdown();
+    }
+}
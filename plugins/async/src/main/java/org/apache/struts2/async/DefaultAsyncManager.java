@@ -22,14 +22,21 @@ import org.apache.struts2.AsyncManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.struts2.ServletActionContext;
+import org.apache.struts2.inject.Inject;
 
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.AsyncEvent;
 import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -45,6 +52,21 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
     private boolean asyncActionStarted;
     private Boolean asyncCompleted;
     private Object asyncActionResult;
+    private Future<?> asyncTask;
+    private final AtomicBoolean asyncDispatched = new AtomicBoolean();
+
+    private AsyncExecutor asyncExecutor;
+    private Long defaultTimeout;
+
+    @Inject(required = false)
+    public void setAsyncExecutor(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Inject(value = AsyncConstants.STRUTS_ASYNC_TIMEOUT, required = false)
+    public void setDefaultTimeout(String defaultTimeout) {
+        this.defaultTimeout = defaultTimeout == null || defaultTimeout.isBlank() ? null : Long.valueOf(defaultTimeout);
+    }
 
     @Override
     public void invokeAsyncAction(final Callable asyncAction) {
@@ -52,27 +74,18 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
             return;
         }
 
-        Long timeout = null;
+        Long timeout = defaultTimeout;
         Executor executor = null;
         if (asyncAction instanceof AsyncAction) {
             AsyncAction customAsyncAction = (AsyncAction) asyncAction;
-            timeout = customAsyncAction.getTimeout();
+            if (customAsyncAction.getTimeout() != null) {
+                timeout = customAsyncAction.getTimeout();
+            }
             executor = customAsyncAction.getExecutor();
         }
 
-        HttpServletRequest req = ServletActionContext.getRequest();
-        asyncActionResult = null;
-        asyncCompleted = false;
-
-        if (asyncContext == null || !req.isAsyncStarted()) {
-            asyncContext = req.startAsync(req, ServletActionContext.getResponse());
-            asyncContext.addListener(this);
-            if (timeout != null) {
-                asyncContext.setTimeout(timeout);
-            }
-        }
-        asyncActionStarted = true;
-        LOG.debug("Async processing started for " + asyncContext);
+        startAsync(timeout);
+        asyncTask = null;
 
         final Runnable task = new Runnable() {
             @Override
@@ -86,6 +99,12 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
         };
         if (executor != null) {
             executor.execute(task);
+        } else if (asyncExecutor != null) {
+            try {
+                asyncTask = asyncExecutor.submit(task);
+            } catch (RejectedExecutionException e) {
+                rejectAsyncAction(e);
+            }
         } else {
             final Thread thread = new Thread(new Runnable() {
                 @Override
@@ -101,7 +120,72 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
         }
     }
 
+    /**
+     * Dispatches the result when the stage completes, no thread is held while waiting for it.
+     *
+     * @param asyncAction stage completed with the result of the action
+     * @since 7.1.1
+     */
+    @Override
+    public void invokeAsyncAction(CompletionStage<?> asyncAction) {
+        if (asyncActionStarted) {
+            return;
+        }
+
+        startAsync(defaultTimeout);
+        asyncTask = null;
+
+        asyncAction.whenComplete((result, error) -> {
+            if (error == null) {
+                setAsyncActionResultAndDispatch(result);
+            } else {
+                setAsyncActionResultAndDispatch(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+            }
+        });
+    }
+
+    private void startAsync(Long timeout) {
+        HttpServletRequest req = ServletActionContext.getRequest();
+        asyncActionResult = null;
+        asyncCompleted = false;
+        asyncDispatched.set(false);
+
+        if (asyncContext == null || !req.isAsyncStarted()) {
+            asyncContext = req.startAsync(req, ServletActionContext.getResponse());
+            asyncContext.addListener(this);
+            if (timeout != null) {
+                asyncContext.setTimeout(timeout);
+            }
+        }
+        asyncActionStarted = true;
+        LOG.debug("Async processing started for " + asyncContext);
+    }
+
+    /**
+     * Responds with "503 Service Unavailable" when the {@link AsyncExecutor} is saturated,
+     * so clients can back off instead of waiting for a thread.
+     */
+    protected void rejectAsyncAction(RejectedExecutionException e) {
+        LOG.warn("Async action rejected, executor is saturated: active [{}], queued [{}], rejected [{}]",
+                asyncExecutor.getActiveCount(), asyncExecutor.getQueueSize(), asyncExecutor.getRejectedCount());
+        LOG.debug("Rejection cause", e);
+        AsyncContext context = asyncContext;
+        try {
+            if (context.getResponse() instanceof HttpServletResponse response && !response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            }
+        } catch (IOException ioe) {
+            LOG.warn("Could not send 503 response for rejected async action", ioe);
+        } finally {
+            context.complete();
+        }
+    }
+
     private void setAsyncActionResultAndDispatch(Object asyncActionResult) {
+        if (!asyncDispatched.compareAndSet(false, true)) {
+            LOG.debug("Async result [{}] ignored, result has been already dispatched", asyncActionResult);
+            return;
+        }
         this.asyncActionResult = asyncActionResult;
 
         String log = "Async result [" + asyncActionResult + "] of " + asyncContext;
@@ -132,6 +216,9 @@ public class DefaultAsyncManager implements AsyncManager, AsyncListener {
     @Override
     public void onTimeout(AsyncEvent asyncEvent) throws IOException {
         LOG.debug("Processing timeout for " + asyncEvent.getAsyncContext());
+        if (asyncTask != null) {
+            asyncTask.cancel(true);
+        }
         setAsyncActionResultAndDispatch(AsyncAction.TIMEOUT);
     }
 
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.async;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DefaultAsyncExecutorTest {
+
+    private final DefaultAsyncExecutor executor = new DefaultAsyncExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        executor.dispatcherDestroyed(null);
+    }
+
+    @Test
+    public void poolRejectsTasksWhenQueueIsFull() throws Exception {
+        executor.setMode(DefaultAsyncExecutor.MODE_POOL);
+        executor.setPoolSize("1");
+        executor.setQueueCapacity("1");
+        executor.init();
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            await();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> queued = executor.submit(this::await);
+
+        assertThat(executor.isVirtual()).isFalse();
+        assertThat(executor.getActiveCount()).isEqualTo(1);
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+        assertThatThrownBy(() -> executor.submit(this::await)).isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+
+        release.countDown();
+        queued.get(5, TimeUnit.SECONDS);
+        assertThat(executor.getCompletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void virtualModeDependsOnRuntime() throws Exception {
+        executor.setMode(DefaultAsyncExecutor.MODE_VIRTUAL);
+        executor.setMaxConcurrent("1");
+        executor.setPoolSize("1");
+        executor.setQueueCapacity("1");
+        executor.init();
+
+        assertThat(executor.isVirtual()).isEqualTo(Runtime.version().feature() >= 21);
+
+        Future<?> running = executor.submit(this::await);
+        if (executor.isVirtual()) {
+            assertThatThrownBy(() -> executor.submit(this::await)).isInstanceOf(RejectedExecutionException.class);
+        }
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void cancelledTaskIsInterrupted() throws Exception {
+        executor.setMode(DefaultAsyncExecutor.MODE_POOL);
+        executor.init();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<?> task = executor.submit(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        task.cancel(true);
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getCompletedCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shutdownWithDispatcher() {
+        executor.init();
+
+        executor.dispatcherDestroyed(null);
+
+        assertThat(executor.isShutdown()).isTrue();
+        assertThatThrownBy(() -> executor.submit(this::await)).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -22,8 +22,14 @@ import org.apache.struts2.XWorkTestCase;
 import org.apache.struts2.ServletActionContext;
 import org.springframework.mock.web.MockAsyncContext;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -110,4 +116,108 @@ public class DefaultAsyncManagerTest extends XWorkTestCase {
             fail("async result did not received on timeout!");
         }
     }
+
+    public void testInvokeCompletionStage() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        ServletActionContext.setRequest(request);
+
+        CompletableFuture<String> stage = new CompletableFuture<>();
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.invokeAsyncAction(stage);
+
+        MockAsyncContext mockAsyncContext = (MockAsyncContext) request.getAsyncContext();
+        assertNotNull("async processing should be started", mockAsyncContext);
+        assertFalse("no result before the stage completes", asyncManager.hasAsyncActionResult());
+
+        stage.complete("success");
+
+        assertEquals("success", asyncManager.getAsyncActionResult());
+        assertNotNull("result should be dispatched", mockAsyncContext.getDispatchedPath());
+    }
+
+    public void testInvokeFailedCompletionStage() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        ServletActionContext.setRequest(request);
+
+        Exception expected = new Exception();
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.invokeAsyncAction(CompletableFuture.completedFuture("input")
+                .thenApply(result -> {
+                    throw new IllegalStateException(expected);
+                }));
+
+        assertTrue("an async result is expected", asyncManager.hasAsyncActionResult());
+        assertTrue(asyncManager.getAsyncActionResult() instanceof IllegalStateException);
+    }
+
+    public void testRejectedWithServiceUnavailable() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        ServletActionContext.setRequest(request);
+        ServletActionContext.setResponse(response);
+
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.setAsyncExecutor(new SaturatedAsyncExecutor());
+        asyncManager.invokeAsyncAction(() -> "success");
+
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, response.getStatus());
+        assertFalse(request.isAsyncStarted());
+        assertFalse(asyncManager.hasAsyncActionResult());
+    }
+
+    public void testDefaultTimeout() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+
+        ServletActionContext.setRequest(request);
+
+        DefaultAsyncManager asyncManager = new DefaultAsyncManager();
+        asyncManager.setDefaultTimeout("1500");
+        asyncManager.setAsyncExecutor(new SaturatedAsyncExecutor());
+        asyncManager.invokeAsyncAction(() -> "success");
+
+        assertEquals(1500L, request.getAsyncContext().getTimeout());
+    }
+
+    private static class SaturatedAsyncExecutor implements AsyncExecutor {
+        @Override
+        public Future<?> submit(Runnable task) {
+            throw new RejectedExecutionException();
+        }
+
+        @Override
+        public int getActiveCount() {
+            return 0;
+        }
+
+        @Override
+        public int getQueueSize() {
+            return 0;
+        }
+
+        @Override
+        public long getCompletedCount() {
+            return 0;
+        }
+
+        @Override
+        public long getRejectedCount() {
+            return 1;
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.struts2.ognl.OgnlCache;
+
+import java.util.function.Function;
+
+/**
+ * Counts hits and misses of the wrapped {@link OgnlCache}
+ */
+public class CountingOgnlCache<K, V> implements OgnlCache<K, V> {
+
+    private final OgnlCache<K, V> delegate;
+    private final Counter hits;
+    private final Counter misses;
+
+    public CountingOgnlCache(OgnlCache<K, V> delegate, Counter hits, Counter misses) {
+        this.delegate = delegate;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    @Override
+    public V get(K key) {
+        V value = delegate.get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        boolean[] computed = new boolean[1];
+        V value = delegate.computeIfAbsent(key, k -> {
+            computed[0] = true;
+            return mappingFunction.apply(k);
+        });
+        if (computed[0]) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(K key, V value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public void putIfAbsent(K key, V value) {
+        delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public int getEvictionLimit() {
+        return delegate.getEvictionLimit();
+    }
+
+    @Override
+    public void setEvictionLimit(int cacheEvictionLimit) {
+        delegate.setEvictionLimit(cacheEvictionLimit);
+    }
+}
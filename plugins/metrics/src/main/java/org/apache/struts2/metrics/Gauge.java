@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Current value of something, e.g. size of a cache, read when the gauge is exported
+ */
+public class Gauge implements Meter {
+
+    private final MetricId id;
+    private final LongSupplier value;
+
+    Gauge(MetricId id, LongSupplier value) {
+        this.id = id;
+        this.value = value;
+    }
+
+    @Override
+    public MetricId getId() {
+        return id;
+    }
+
+    public long getValue() {
+        return value.getAsLong();
+    }
+
+    @Override
+    public String toString() {
+        return id + " value=" + getValue();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of recorded values (durations in nanoseconds or sizes in bytes) with fixed bucket boundaries,
+ * which maps directly to Prometheus/OpenTelemetry explicit bucket histograms.
+ */
+public class Histogram implements Meter {
+
+    public static final String NANOSECONDS = "nanoseconds";
+    public static final String BYTES = "bytes";
+
+    static final long[] DURATION_BOUNDS = {
+            TimeUnit.MILLISECONDS.toNanos(5),
+            TimeUnit.MILLISECONDS.toNanos(10),
+            TimeUnit.MILLISECONDS.toNanos(25),
+            TimeUnit.MILLISECONDS.toNanos(50),
+            TimeUnit.MILLISECONDS.toNanos(100),
+            TimeUnit.MILLISECONDS.toNanos(250),
+            TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.SECONDS.toNanos(1),
+            TimeUnit.MILLISECONDS.toNanos(2500),
+            TimeUnit.SECONDS.toNanos(5),
+            TimeUnit.SECONDS.toNanos(10)
+    };
+
+    static final long[] SIZE_BOUNDS = {
+            1024,
+            10 * 1024,
+            100 * 1024,
+            1024 * 1024,
+            10 * 1024 * 1024,
+            100 * 1024 * 1024
+    };
+
+    private final MetricId id;
+    private final String baseUnit;
+    private final long[] bounds;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray buckets;
+
+    Histogram(MetricId id, String baseUnit, long[] bounds) {
+        this.id = id;
+        this.baseUnit = baseUnit;
+        this.bounds = bounds.clone();
+        this.buckets = new AtomicLongArray(bounds.length + 1);
+    }
+
+    @Override
+    public MetricId getId() {
+        return id;
+    }
+
+    public void record(long value) {
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+        int bucket = Arrays.binarySearch(bounds, value);
+        buckets.incrementAndGet(bucket >= 0 ? bucket : -bucket - 1);
+    }
+
+    /**
+     * @return unit of recorded values, {@link #NANOSECONDS} or {@link #BYTES}
+     */
+    public String getBaseUnit() {
+        return baseUnit;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return inclusive upper bounds of the buckets, values larger than the last bound are counted in an extra bucket
+     */
+    public long[] getBounds() {
+        return bounds.clone();
+    }
+
+    /**
+     * @return number of recorded values per bucket (not cumulative), one more than {@link #getBounds()}
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return id + " count=" + getCount() + " sum=" + getSum() + " max=" + getMax() + " " + baseUnit;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collection;
+import java.util.Comparator;
+
+/**
+ * Logs all the meters, sorted by name and tags, using INFO level
+ */
+public class LoggingMetricsExporter implements MetricsExporter {
+
+    private static final Logger LOG = LogManager.getLogger(LoggingMetricsExporter.class);
+
+    @Override
+    public void export(Collection<Meter> meters) {
+        if (!LOG.isInfoEnabled()) {
+            return;
+        }
+        meters.stream()
+                .sorted(Comparator.comparing(meter -> meter.getId().toString()))
+                .forEach(meter -> LOG.info("{}", meter));
+    }
+}
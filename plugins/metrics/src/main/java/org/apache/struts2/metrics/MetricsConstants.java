@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+public class MetricsConstants {
+
+    /**
+     * Comma separated names of {@link MetricsExporter} beans used to publish collected metrics
+     */
+    public static final String STRUTS_METRICS_EXPORTERS = "struts.metrics.exporters";
+
+    /**
+     * How often (in seconds) metrics are published to exporters, 0 publishes them only when the application stops
+     */
+    public static final String STRUTS_METRICS_EXPORT_INTERVAL = "struts.metrics.exportInterval";
+
+    public static final String REQUESTS = "struts.requests";
+    public static final String ACTIONS = "struts.actions";
+    public static final String ACTION_EXCEPTIONS = "struts.action.exceptions";
+    public static final String VALIDATION_FAILURES = "struts.validation.failures";
+    public static final String MULTIPART_UPLOADS = "struts.multipart.uploads";
+    public static final String MULTIPART_ERRORS = "struts.multipart.errors";
+    public static final String OGNL_EXPRESSION_CACHE_HITS = "struts.ognl.expression.cache.hits";
+    public static final String OGNL_EXPRESSION_CACHE_MISSES = "struts.ognl.expression.cache.misses";
+    public static final String OGNL_EXPRESSION_CACHE_SIZE = "struts.ognl.expression.cache.size";
+
+}
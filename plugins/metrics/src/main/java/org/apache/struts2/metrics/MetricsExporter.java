@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import java.util.Collection;
+
+/**
+ * Publishes metrics collected in {@link MetricsRegistry} to an external system, e.g. by bridging
+ * them to Micrometer or OpenTelemetry. Implementations are registered as beans and selected with
+ * the "struts.metrics.exporters" constant.
+ */
+public interface MetricsExporter {
+
+    /**
+     * Called periodically and once more when the application stops.
+     *
+     * @param meters current state of all the meters, the same meter instances are passed on every call
+     */
+    void export(Collection<Meter> meters);
+
+}
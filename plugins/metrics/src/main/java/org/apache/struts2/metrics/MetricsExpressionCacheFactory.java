@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.struts2.StrutsConstants;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.ognl.DefaultOgnlExpressionCacheFactory;
+import org.apache.struts2.ognl.OgnlCache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Builds the same OGNL expression caches as {@link DefaultOgnlExpressionCacheFactory}, counting their hits,
+ * misses and reporting their size in {@link MetricsRegistry}. The meters are aggregated over all the caches
+ * built by the factory, the size gauge reports the total number of cached expressions.
+ */
+public class MetricsExpressionCacheFactory<Key, Value> extends DefaultOgnlExpressionCacheFactory<Key, Value> {
+
+    private final List<OgnlCache<Key, Value>> caches = new CopyOnWriteArrayList<>();
+
+    private MetricsRegistry registry;
+
+    @Inject
+    public MetricsExpressionCacheFactory(@Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_MAXSIZE) String cacheMaxSize,
+                                         @Inject(value = StrutsConstants.STRUTS_OGNL_EXPRESSION_CACHE_TYPE) String defaultCacheType) {
+        super(cacheMaxSize, defaultCacheType);
+    }
+
+    @Inject
+    public void setMetricsRegistry(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public OgnlCache<Key, Value> buildOgnlCache(int evictionLimit, int initialCapacity, float loadFactor, CacheType cacheType) {
+        OgnlCache<Key, Value> cache = super.buildOgnlCache(evictionLimit, initialCapacity, loadFactor, cacheType);
+        caches.add(cache);
+        registry.gauge(MetricsConstants.OGNL_EXPRESSION_CACHE_SIZE, this::totalSize);
+        return new CountingOgnlCache<>(cache,
+                registry.counter(MetricsConstants.OGNL_EXPRESSION_CACHE_HITS),
+                registry.counter(MetricsConstants.OGNL_EXPRESSION_CACHE_MISSES));
+    }
+
+    private long totalSize() {
+        long size = 0;
+        for (OgnlCache<Key, Value> cache : caches) {
+            size += cache.size();
+        }
+        return size;
+    }
+}
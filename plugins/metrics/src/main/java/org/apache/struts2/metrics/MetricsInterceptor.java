@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.ActionInvocation;
+import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
+import org.apache.struts2.dispatcher.multipart.UploadedFile;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.interceptor.AbstractInterceptor;
+import org.apache.struts2.interceptor.ExceptionHolder;
+import org.apache.struts2.interceptor.ValidationAware;
+
+import java.util.Enumeration;
+
+/**
+ * Records per action timings tagged with the result code, exceptions thrown by or mapped for the action,
+ * validation failures and sizes of uploaded files. Meters are tagged with the package and the name of the action
+ * configuration, not the requested URL, to keep the number of meters bounded. Should be placed at the beginning of the stack
+ * to measure all the other interceptors, as done in "metricsStack" of the "metrics-default" package.
+ */
+public class MetricsInterceptor extends AbstractInterceptor {
+
+    private static final Logger LOG = LogManager.getLogger(MetricsInterceptor.class);
+
+    private MetricsRegistry registry;
+
+    @Inject
+    public void setMetricsRegistry(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public String intercept(ActionInvocation invocation) throws Exception {
+        ActionConfig config = invocation.getProxy().getConfig();
+        String packageName = config.getPackageName();
+        String actionName = config.getName();
+
+        recordUploads(invocation);
+
+        long start = System.nanoTime();
+        String resultCode = null;
+        try {
+            resultCode = invocation.invoke();
+            return resultCode;
+        } catch (Exception e) {
+            resultCode = "exception";
+            registry.counter(MetricsConstants.ACTION_EXCEPTIONS,
+                    "package", packageName, "action", actionName, "exception", e.getClass().getName()).increment();
+            throw e;
+        } finally {
+            registry.timer(MetricsConstants.ACTIONS,
+                    "package", packageName, "action", actionName, "result", resultCode).record(System.nanoTime() - start);
+            recordHandledException(invocation, packageName, actionName);
+            recordValidationFailure(invocation, packageName, actionName);
+        }
+    }
+
+    protected void recordUploads(ActionInvocation invocation) {
+        HttpServletRequest request = invocation.getInvocationContext().getServletRequest();
+        if (!(request instanceof MultiPartRequestWrapper multiPartRequest)) {
+            return;
+        }
+        if (multiPartRequest.hasErrors()) {
+            registry.counter(MetricsConstants.MULTIPART_ERRORS).increment();
+        }
+        Enumeration<String> fileParameterNames = multiPartRequest.getFileParameterNames();
+        while (fileParameterNames != null && fileParameterNames.hasMoreElements()) {
+            UploadedFile[] files = multiPartRequest.getFiles(fileParameterNames.nextElement());
+            if (files == null) {
+                continue;
+            }
+            for (UploadedFile file : files) {
+                Long length = file.length();
+                if (length != null) {
+                    registry.distribution(MetricsConstants.MULTIPART_UPLOADS).record(length);
+                }
+            }
+        }
+    }
+
+    /**
+     * Exceptions mapped to a result by the exception interceptor don't reach this interceptor,
+     * they are detected by the {@link ExceptionHolder} pushed onto the value stack.
+     */
+    protected void recordHandledException(ActionInvocation invocation, String packageName, String actionName) {
+        if (invocation.getStack() == null) {
+            return;
+        }
+        for (Object o : invocation.getStack().getRoot()) {
+            if (o instanceof ExceptionHolder holder && holder.getException() != null) {
+                LOG.trace("Found handled exception: {}", holder.getException().getClass().getName());
+                registry.counter(MetricsConstants.ACTION_EXCEPTIONS,
+                        "package", packageName, "action", actionName, "exception", holder.getException().getClass().getName()).increment();
+                return;
+            }
+        }
+    }
+
+    protected void recordValidationFailure(ActionInvocation invocation, String packageName, String actionName) {
+        if (invocation.getAction() instanceof ValidationAware validationAware && validationAware.hasErrors()) {
+            registry.counter(MetricsConstants.VALIDATION_FAILURES, "package", packageName, "action", actionName).increment();
+        }
+    }
+}
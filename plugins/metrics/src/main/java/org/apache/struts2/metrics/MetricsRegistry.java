@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Local, in-memory registry of all meters collected by the plugin. Meters are created on first use
+ * and live until the registry is cleared, use {@link #getMeters()} to read them or register
+ * a {@link MetricsExporter} to publish them.
+ */
+public class MetricsRegistry {
+
+    private final ConcurrentMap<MetricId, Meter> meters = new ConcurrentHashMap<>();
+
+    public Counter counter(String name, String... tags) {
+        return register(MetricId.of(name, tags), Counter.class, Counter::new);
+    }
+
+    /**
+     * @return a histogram of durations recorded in nanoseconds
+     */
+    public Histogram timer(String name, String... tags) {
+        return register(MetricId.of(name, tags), Histogram.class,
+                id -> new Histogram(id, Histogram.NANOSECONDS, Histogram.DURATION_BOUNDS));
+    }
+
+    /**
+     * @return a histogram of sizes recorded in bytes
+     */
+    public Histogram distribution(String name, String... tags) {
+        return register(MetricId.of(name, tags), Histogram.class,
+                id -> new Histogram(id, Histogram.BYTES, Histogram.SIZE_BOUNDS));
+    }
+
+    public Gauge gauge(String name, LongSupplier value, String... tags) {
+        return register(MetricId.of(name, tags), Gauge.class, id -> new Gauge(id, value));
+    }
+
+    public Meter get(MetricId id) {
+        return meters.get(id);
+    }
+
+    public Collection<Meter> getMeters() {
+        return new ArrayList<>(meters.values());
+    }
+
+    public void clear() {
+        meters.clear();
+    }
+
+    private <T extends Meter> T register(MetricId id, Class<T> type, Function<MetricId, T> factory) {
+        Meter meter = meters.get(id);
+        if (meter == null) {
+            meter = meters.computeIfAbsent(id, factory);
+        }
+        if (!type.isInstance(meter)) {
+            throw new IllegalArgumentException("Meter [" + id + "] is already registered as " + meter.getClass().getSimpleName());
+        }
+        return type.cast(meter);
+    }
+}
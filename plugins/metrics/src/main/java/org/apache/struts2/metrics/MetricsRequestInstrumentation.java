@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.inject.Container;
+import org.apache.struts2.inject.Initializable;
+import org.apache.struts2.inject.Inject;
+import org.apache.struts2.instrumentation.DefaultRequestInstrumentation;
+import org.apache.struts2.instrumentation.RequestInstrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records requests served by the {@link org.apache.struts2.dispatcher.Dispatcher} and publishes the registry
+ * to the configured {@link MetricsExporter}s from {@link #init()} until {@link #destroy()}, which is called when
+ * the Dispatcher is destroyed or replaces the instrumentation after a configuration reload.
+ * <p>
+ * All phases are also passed to the core "struts" instrumentation, so the statistics of
+ * {@link DefaultRequestInstrumentation} remain available over JMX when it's enabled.
+ */
+public class MetricsRequestInstrumentation implements RequestInstrumentation, Initializable {
+
+    private static final Logger LOG = LogManager.getLogger(MetricsRequestInstrumentation.class);
+
+    static final String UNKNOWN = "unknown";
+
+    private MetricsRegistry registry;
+    private Container container;
+    private RequestInstrumentation delegate;
+    private String exporterNames;
+    private long exportInterval = 60;
+
+    private List<MetricsExporter> exporters = new ArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    @Inject
+    public void setMetricsRegistry(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Inject
+    public void setContainer(Container container) {
+        this.container = container;
+    }
+
+    @Inject(value = "struts", required = false)
+    public void setDelegate(RequestInstrumentation delegate) {
+        this.delegate = delegate;
+    }
+
+    @Inject(value = MetricsConstants.STRUTS_METRICS_EXPORTERS, required = false)
+    public void setExporterNames(String exporterNames) {
+        this.exporterNames = exporterNames;
+    }
+
+    @Inject(value = MetricsConstants.STRUTS_METRICS_EXPORT_INTERVAL, required = false)
+    public void setExportInterval(String exportInterval) {
+        this.exportInterval = Long.parseLong(exportInterval);
+    }
+
+    @Override
+    public void init() {
+        exporters = lookupExporters(container);
+        if (exporters.isEmpty() || exportInterval <= 0) {
+            return;
+        }
+        LOG.debug("Exporting metrics every {}s to: {}", exportInterval, exporterNames);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "struts-metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::export, exportInterval, exportInterval, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public Probe start(Phase phase, ActionConfig actionConfig, String name) {
+        Probe delegateProbe = delegate != null ? delegate.start(phase, actionConfig, name) : Probe.NOOP;
+        if (phase != Phase.REQUEST) {
+            return delegateProbe;
+        }
+        return new RequestProbe(actionConfig, delegateProbe);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        export();
+        exporters = new ArrayList<>();
+        if (delegate != null) {
+            delegate.destroy();
+        }
+    }
+
+    protected List<MetricsExporter> lookupExporters(Container container) {
+        List<MetricsExporter> found = new ArrayList<>();
+        for (String name : StringUtils.split(StringUtils.defaultString(exporterNames), ", ")) {
+            MetricsExporter exporter = container.getInstance(MetricsExporter.class, name);
+            if (exporter == null) {
+                LOG.warn("No MetricsExporter defined with name [{}], ignoring it", name);
+            } else {
+                found.add(exporter);
+            }
+        }
+        return found;
+    }
+
+    protected void export() {
+        for (MetricsExporter exporter : exporters) {
+            try {
+                exporter.export(registry.getMeters());
+            } catch (RuntimeException e) {
+                LOG.warn("Exporting metrics with [{}] failed", exporter.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Requests which don't map to a configured action are tagged with {@link #UNKNOWN}, so clients can't
+     * create new meters by requesting random URLs.
+     */
+    private final class RequestProbe implements Probe {
+
+        private final long start = System.nanoTime();
+        private final Probe delegateProbe;
+        private ActionConfig actionConfig;
+
+        private RequestProbe(ActionConfig actionConfig, Probe delegateProbe) {
+            this.actionConfig = actionConfig;
+            this.delegateProbe = delegateProbe;
+        }
+
+        @Override
+        public void actionResolved(ActionConfig actionConfig) {
+            this.actionConfig = actionConfig;
+            delegateProbe.actionResolved(actionConfig);
+        }
+
+        @Override
+        public void close() {
+            delegateProbe.close();
+            String packageName = actionConfig == null ? UNKNOWN : actionConfig.getPackageName();
+            String actionName = actionConfig == null ? UNKNOWN : actionConfig.getName();
+            registry.timer(MetricsConstants.REQUESTS, "package", packageName, "action", actionName)
+                    .record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.struts2.ognl.OgnlCacheFactory;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CountingOgnlCacheTest {
+
+    @Test
+    public void countsHitsAndMisses() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsExpressionCacheFactory<String, Object> factory = new MetricsExpressionCacheFactory<>("100", "basic");
+        factory.setMetricsRegistry(registry);
+
+        var cache = factory.buildOgnlCache();
+        assertThat(cache).isInstanceOf(CountingOgnlCache.class);
+        assertThat(factory.getDefaultCacheType()).isEqualTo(OgnlCacheFactory.CacheType.BASIC);
+
+        assertThat(cache.get("name")).isNull();
+        cache.put("name", "value");
+        assertThat(cache.get("name")).isEqualTo("value");
+        assertThat(cache.computeIfAbsent("name", key -> "other")).isEqualTo("value");
+        assertThat(cache.computeIfAbsent("other", key -> "other")).isEqualTo("other");
+
+        assertThat(registry.counter(MetricsConstants.OGNL_EXPRESSION_CACHE_HITS).getCount()).isEqualTo(2);
+        assertThat(registry.counter(MetricsConstants.OGNL_EXPRESSION_CACHE_MISSES).getCount()).isEqualTo(2);
+        assertThat(registry.gauge(MetricsConstants.OGNL_EXPRESSION_CACHE_SIZE, () -> -1).getValue()).isEqualTo(2);
+    }
+
+    @Test
+    public void reportsSizeOfAllCaches() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsExpressionCacheFactory<String, Object> factory = new MetricsExpressionCacheFactory<>("100", "basic");
+        factory.setMetricsRegistry(registry);
+
+        var first = factory.buildOgnlCache();
+        var second = factory.buildOgnlCache();
+        first.put("name", "value");
+        second.put("name", "value");
+        second.put("other", "value");
+
+        assertThat(registry.gauge(MetricsConstants.OGNL_EXPRESSION_CACHE_SIZE, () -> -1).getValue()).isEqualTo(3);
+    }
+}
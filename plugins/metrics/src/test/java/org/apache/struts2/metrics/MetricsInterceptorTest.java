@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.struts2.ActionContext;
+import org.apache.struts2.ActionInvocation;
+import org.apache.struts2.ActionProxy;
+import org.apache.struts2.ActionSupport;
+import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.dispatcher.multipart.MultiPartRequestWrapper;
+import org.apache.struts2.dispatcher.multipart.UploadedFile;
+import org.apache.struts2.interceptor.ExceptionHolder;
+import org.apache.struts2.util.CompoundRoot;
+import org.apache.struts2.util.ValueStack;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetricsInterceptorTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+    private final MetricsInterceptor interceptor = new MetricsInterceptor();
+    private final ActionInvocation invocation = mock(ActionInvocation.class);
+    private final CompoundRoot root = new CompoundRoot();
+    private final ActionSupport action = new ActionSupport();
+
+    @Before
+    public void setUp() {
+        interceptor.setMetricsRegistry(registry);
+
+        ActionProxy proxy = mock(ActionProxy.class);
+        when(proxy.getConfig()).thenReturn(new ActionConfig.Builder("admin", "save", ActionSupport.class.getName()).build());
+        ValueStack stack = mock(ValueStack.class);
+        when(stack.getRoot()).thenReturn(root);
+
+        when(invocation.getProxy()).thenReturn(proxy);
+        when(invocation.getStack()).thenReturn(stack);
+        when(invocation.getAction()).thenReturn(action);
+        when(invocation.getInvocationContext()).thenReturn(ActionContext.of());
+    }
+
+    @Test
+    public void recordsActionTimingPerResult() throws Exception {
+        when(invocation.invoke()).thenReturn("success");
+
+        assertThat(interceptor.intercept(invocation)).isEqualTo("success");
+
+        Histogram timer = registry.timer(MetricsConstants.ACTIONS, "package", "admin", "action", "save", "result", "success");
+        assertThat(timer.getCount()).isEqualTo(1);
+        assertThat(registry.getMeters()).hasSize(1);
+    }
+
+    @Test
+    public void recordsThrownException() throws Exception {
+        when(invocation.invoke()).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> interceptor.intercept(invocation)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.counter(MetricsConstants.ACTION_EXCEPTIONS,
+                "package", "admin", "action", "save", "exception", IllegalStateException.class.getName()).getCount()).isEqualTo(1);
+        assertThat(registry.timer(MetricsConstants.ACTIONS,
+                "package", "admin", "action", "save", "result", "exception").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void recordsHandledExceptionAndValidationFailure() throws Exception {
+        when(invocation.invoke()).thenAnswer(inv -> {
+            root.push(new ExceptionHolder(new IllegalArgumentException()));
+            action.addActionError("failed");
+            return "error";
+        });
+
+        interceptor.intercept(invocation);
+
+        assertThat(registry.counter(MetricsConstants.ACTION_EXCEPTIONS,
+                "package", "admin", "action", "save", "exception", IllegalArgumentException.class.getName()).getCount()).isEqualTo(1);
+        assertThat(registry.counter(MetricsConstants.VALIDATION_FAILURES,
+                "package", "admin", "action", "save").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void recordsUploadedFileSizes() throws Exception {
+        MultiPartRequestWrapper request = mock(MultiPartRequestWrapper.class);
+        UploadedFile file = mock(UploadedFile.class);
+        when(file.length()).thenReturn(2048L);
+        when(request.hasErrors()).thenReturn(true);
+        when(request.getFileParameterNames()).thenReturn(Collections.enumeration(Collections.singleton("upload")));
+        when(request.getFiles("upload")).thenReturn(new UploadedFile[]{file});
+        when(invocation.getInvocationContext()).thenReturn(ActionContext.of().withServletRequest(request));
+        when(invocation.invoke()).thenReturn("success");
+
+        interceptor.intercept(invocation);
+
+        Histogram uploads = registry.distribution(MetricsConstants.MULTIPART_UPLOADS);
+        assertThat(uploads.getCount()).isEqualTo(1);
+        assertThat(uploads.getSum()).isEqualTo(2048);
+        assertThat(registry.counter(MetricsConstants.MULTIPART_ERRORS).getCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MetricsRegistryTest {
+
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    public void sameIdReturnsSameMeter() {
+        Counter counter = registry.counter("struts.test", "b", "2", "a", "1");
+        counter.increment();
+        registry.counter("struts.test", "a", "1", "b", "2").add(2);
+
+        assertThat(counter.getCount()).isEqualTo(3);
+        assertThat(registry.getMeters()).hasSize(1);
+        assertThat(counter.getId().toString()).isEqualTo("struts.test{a=1, b=2}");
+    }
+
+    @Test
+    public void nullTagValueIsReportedAsNone() {
+        MetricId id = MetricId.of("struts.test", "result", null);
+
+        assertThat(id.tags()).containsEntry("result", "none");
+    }
+
+    @Test
+    public void tagsMustBePaired() {
+        assertThatThrownBy(() -> registry.counter("struts.test", "single"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void idCannotBeReusedForDifferentType() {
+        registry.counter("struts.test");
+
+        assertThatThrownBy(() -> registry.timer("struts.test"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Counter");
+    }
+
+    @Test
+    public void timerRecordsIntoBuckets() {
+        Histogram timer = registry.timer("struts.test");
+        timer.record(TimeUnit.MILLISECONDS.toNanos(1));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(5));
+        timer.record(TimeUnit.MILLISECONDS.toNanos(7));
+        timer.record(TimeUnit.MINUTES.toNanos(1));
+
+        long[] buckets = timer.getBucketCounts();
+        assertThat(timer.getBaseUnit()).isEqualTo(Histogram.NANOSECONDS);
+        assertThat(timer.getCount()).isEqualTo(4);
+        assertThat(timer.getMax()).isEqualTo(TimeUnit.MINUTES.toNanos(1));
+        assertThat(buckets).hasSize(timer.getBounds().length + 1);
+        assertThat(buckets[0]).isEqualTo(2);
+        assertThat(buckets[1]).isEqualTo(1);
+        assertThat(buckets[buckets.length - 1]).isEqualTo(1);
+    }
+
+    @Test
+    public void gaugeReadsCurrentValue() {
+        long[] value = {1};
+        Gauge gauge = registry.gauge("struts.test", () -> value[0]);
+        value[0] = 5;
+
+        assertThat(gauge.getValue()).isEqualTo(5);
+    }
+}
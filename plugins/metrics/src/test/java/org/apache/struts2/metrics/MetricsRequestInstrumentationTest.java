@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.metrics;
+
+import org.apache.struts2.config.entities.ActionConfig;
+import org.apache.struts2.inject.Container;
+import org.apache.struts2.instrumentation.DefaultRequestInstrumentation;
+import org.apache.struts2.instrumentation.RequestInstrumentation.Phase;
+import org.apache.struts2.instrumentation.RequestInstrumentation.Probe;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MetricsRequestInstrumentationTest {
+
+    private final ActionConfig index = new ActionConfig.Builder("default", "index", "org.example.Index").build();
+
+    @Test
+    public void recordsRequestsAndExportsWhenDestroyed() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsRequestInstrumentation instrumentation = new MetricsRequestInstrumentation();
+        instrumentation.setMetricsRegistry(registry);
+        instrumentation.setExporterNames("test, missing");
+        instrumentation.setExportInterval("0");
+
+        List<Collection<Meter>> exported = new ArrayList<>();
+        Container container = mock(Container.class);
+        when(container.getInstance(MetricsExporter.class, "test")).thenReturn(exported::add);
+        instrumentation.setContainer(container);
+        instrumentation.init();
+
+        try (Probe probe = instrumentation.start(Phase.REQUEST, null, null)) {
+            probe.actionResolved(index);
+            assertThat(instrumentation.start(Phase.INTERCEPTOR, index, "params")).isSameAs(Probe.NOOP);
+        }
+        for (int i = 0; i < 3; i++) {
+            try (Probe ignored = instrumentation.start(Phase.REQUEST, null, null)) {
+                // action not found
+            }
+        }
+        instrumentation.destroy();
+
+        assertThat(registry.timer(MetricsConstants.REQUESTS, "package", "default", "action", "index").getCount()).isEqualTo(1);
+        assertThat(registry.timer(MetricsConstants.REQUESTS, "package", "unknown", "action", "unknown").getCount()).isEqualTo(3);
+        assertThat(exported).hasSize(1);
+        assertThat(exported.get(0)).hasSize(2);
+    }
+
+    @Test
+    public void passesPhasesToCoreInstrumentation() {
+        DefaultRequestInstrumentation core = new DefaultRequestInstrumentation();
+        core.setEnabled("true");
+        core.setJmxEnabled("false");
+        core.init();
+
+        MetricsRegistry registry = new MetricsRegistry();
+        MetricsRequestInstrumentation instrumentation = new MetricsRequestInstrumentation();
+        instrumentation.setMetricsRegistry(registry);
+        instrumentation.setContainer(mock(Container.class));
+        instrumentation.setDelegate(core);
+        instrumentation.init();
+
+        try (Probe probe = instrumentation.start(Phase.REQUEST, null, null)) {
+            probe.actionResolved(index);
+            try (Probe ignored = instrumentation.start(Phase.ACTION, index, "execute")) {
+                // measured by both
+            }
+        }
+        instrumentation.destroy();
+
+        assertThat(registry.timer(MetricsConstants.REQUESTS, "package", "default", "action", "index").getCount()).isEqualTo(1);
+        assertThat(core.getStatistics()).hasSize(2).allSatisfy(statistics -> {
+            assertThat(statistics.getAction()).isEqualTo("default/index");
+            assertThat(statistics.getCount()).isEqualTo(1);
+        });
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.struts2.views.velocity.components.ActionErrorDirective;
 import org.apache.struts2.views.velocity.components.ActionMessageDirective;
 import org.apache.struts2.views.velocity.components.AnchorDirective;
 import org.apache.struts2.views.velocity.components.BeanDirective;
+import org.apache.struts2.views.velocity.components.CacheDirective;
 import org.apache.struts2.views.velocity.components.CheckBoxDirective;
 import org.apache.struts2.views.velocity.components.CheckBoxListDirective;
 import org.apache.struts2.views.velocity.components.ComboBoxDirective;
@@ -65,6 +66,7 @@ public class VelocityTagLibrary implements TagLibraryDirectiveProvider {
         Class<?>[] directives = new Class[] {
             ActionDirective.class,
             BeanDirective.class,
+            CacheDirective.class,
             CheckBoxDirective.class,
             CheckBoxListDirective.class,
             ComboBoxDirective.class,
@@ -61,6 +61,26 @@ public abstract class AbstractDirective extends Directive {
     protected abstract Component getBean(ValueStack stack, HttpServletRequest req, HttpServletResponse res);
 
     public boolean render(InternalContextAdapter ctx, Writer writer, Node node) throws IOException, ResourceNotFoundException, ParseErrorException, MethodInvocationException {
+        Component bean = createBean(ctx, node);
+        bean.start(writer);
+
+        if (getType() == BLOCK) {
+            Node body = node.jjtGetChild(node.jjtGetNumChildren() - 1);
+            body.render(ctx, writer);
+        }
+
+        bean.end(writer, "");
+        return true;
+    }
+
+    /**
+     * Creates and injects the component and copies the directive's properties into it.
+     *
+     * @param ctx  the context adapter
+     * @param node the Node passed in to the render method
+     * @return the component ready to be started
+     */
+    protected Component createBean(InternalContextAdapter ctx, Node node) throws ParseErrorException, MethodInvocationException {
         ValueStack stack = extractValueStack(ctx);
         if (stack == null) {
             // Fallback to assuming the ValueStack was put into the Velocity context (as is by default)
@@ -75,15 +95,7 @@ public abstract class AbstractDirective extends Directive {
         Map params = createPropertyMap(ctx, node);
         bean.copyAttributes(params);
         //bean.addAllParameters(params);
-        bean.start(writer);
-
-        if (getType() == BLOCK) {
-            Node body = node.jjtGetChild(node.jjtGetNumChildren() - 1);
-            body.render(ctx, writer);
-        }
-
-        bean.end(writer, "");
-        return true;
+        return bean;
     }
 
     private ValueStack extractValueStack(Context context) {
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.struts2.views.velocity.components;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.apache.struts2.components.Cache;
+import org.apache.struts2.components.Component;
+import org.apache.struts2.util.ValueStack;
+import org.apache.velocity.context.InternalContextAdapter;
+import org.apache.velocity.exception.MethodInvocationException;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.exception.ResourceNotFoundException;
+import org.apache.velocity.runtime.parser.node.Node;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * @see Cache
+ */
+public class CacheDirective extends AbstractDirective {
+    public String getBeanName() {
+        return "cache";
+    }
+
+    protected Component getBean(ValueStack stack, HttpServletRequest req, HttpServletResponse res) {
+        return new Cache(stack);
+    }
+
+    public int getType() {
+        return BLOCK;
+    }
+
+    /**
+     * Renders the body into a buffer only when the component asks for it, so a cached fragment
+     * skips the evaluation of the body.
+     */
+    @Override
+    public boolean render(InternalContextAdapter ctx, Writer writer, Node node) throws IOException, ResourceNotFoundException, ParseErrorException, MethodInvocationException {
+        Component bean = createBean(ctx, node);
+
+        String body = "";
+        if (bean.start(writer)) {
+            StringWriter bodyWriter = new StringWriter();
+            node.jjtGetChild(node.jjtGetNumChildren() - 1).render(ctx, bodyWriter);
+            body = bodyWriter.toString();
+        }
+
+        bean.end(writer, body);
+        return true;
+    }
+}